@@ -4,10 +4,16 @@ import io.scriptor.edge.Game;
 import io.scriptor.engine.Engine;
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.file.Path;
+import java.util.Optional;
+
 public class Main {
 
     public static void main(final @NotNull String @NotNull [] args) {
-        final var engine = new Engine("Edge", 800, 600);
+        final var engine = new Engine("Edge", 800, 600)
+                .setThreaded(Boolean.getBoolean("edge.threaded"))
+                .setRecording(Optional.ofNullable(System.getProperty("edge.record")).map(Path::of).orElse(null))
+                .setReplay(Optional.ofNullable(System.getProperty("edge.replay")).map(Path::of).orElse(null));
         engine.addCycle("edge", Game.class, null);
         engine.start();
         engine.destroy();
@@ -9,12 +9,7 @@ public class Constant {
     public static final @NotNull String DEFAULT = "default";
     public static final @NotNull String BASE = "base";
     public static final @NotNull String RAINBOW = "rainbow";
-    public static final @NotNull String RAINBOW_CUBE = "rainbow_cube";
-    public static final @NotNull String RAINBOW_PRISM = "rainbow_prism";
-    public static final @NotNull String PULSE_NORTH = "pulse_north";
-    public static final @NotNull String PULSE_SOUTH = "pulse_south";
-    public static final @NotNull String PULSE_EAST = "pulse_east";
-    public static final @NotNull String PULSE_WEST = "pulse_west";
+    public static final @NotNull String PULSE = "pulse";
     public static final @NotNull String END_FRAME = "end_frame";
 
     /* MODEL NAME */
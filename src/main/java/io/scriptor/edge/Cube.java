@@ -4,7 +4,6 @@ import io.scriptor.engine.Cycle;
 import io.scriptor.engine.Engine;
 import io.scriptor.engine.component.Model;
 import io.scriptor.engine.component.Transform;
-import io.scriptor.engine.data.IUniform;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -20,10 +19,8 @@ public class Cube extends Cycle {
     protected void onStart() {
         addComponent(Transform.class);
 
-        addComponent(Model.class, RAINBOW_CUBE, CUBE)
-                .getMaterial()
-                .ok(material -> material
-                        .uniform(SPEED, IUniform.Uniform1f.class)
-                        .set(10.0f));
+        addComponent(Model.class, RAINBOW, CUBE)
+                .getInstance()
+                .set(SPEED, 10.0f);
     }
 }
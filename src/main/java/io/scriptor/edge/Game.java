@@ -3,6 +3,7 @@ package io.scriptor.edge;
 import io.scriptor.engine.Cycle;
 import io.scriptor.engine.Engine;
 import io.scriptor.engine.Engine.AxisInput;
+import io.scriptor.engine.InputBus;
 import io.scriptor.engine.data.Material;
 import io.scriptor.engine.gl.GLProgram;
 import org.jetbrains.annotations.NotNull;
@@ -21,23 +22,15 @@ public class Game extends Cycle {
 
     @Override
     protected void onStart() {
-        final var programDefault    = open("shader/default.yaml", GLProgram::create).get();
-        final var programBase       = open("shader/base.yaml", GLProgram::create).get();
-        final var programRainbow    = open("shader/rainbow.yaml", GLProgram::create).get();
-        final var programPulseNorth = open("shader/pulse_north.yaml", GLProgram::create).get();
-        final var programPulseSouth = open("shader/pulse_south.yaml", GLProgram::create).get();
-        final var programPulseEast  = open("shader/pulse_east.yaml", GLProgram::create).get();
-        final var programPulseWest  = open("shader/pulse_west.yaml", GLProgram::create).get();
-
-        Material.create(DEFAULT, programDefault);
+        final var programDefault = open("shader/default.yaml", GLProgram::create).get();
+        final var programBase    = open("shader/base.yaml", GLProgram::create).get();
+        final var programRainbow = open("shader/rainbow.yaml", GLProgram::create).get();
+        final var programPulse   = open("shader/pulse.yaml", GLProgram::create).get();
+
+        Material.create(DEFAULT, programDefault).ok(material -> material.setBlended(true));
         Material.create(BASE, programBase);
-        Material.create(RAINBOW, programRainbow);
-        Material.create(RAINBOW_CUBE, programRainbow);
-        Material.create(RAINBOW_PRISM, programRainbow);
-        Material.create(PULSE_NORTH, programPulseNorth);
-        Material.create(PULSE_SOUTH, programPulseSouth);
-        Material.create(PULSE_EAST, programPulseEast);
-        Material.create(PULSE_WEST, programPulseWest);
+        Material.create(RAINBOW, programRainbow).ok(material -> material.param(SPEED));
+        Material.create(PULSE, programPulse);
 
         getEngine().addCycle("world", World.class, null);
         getEngine().addCycle("player", Player.class, null);
@@ -73,11 +66,13 @@ public class Game extends Cycle {
 
                 new AxisInput(JOY_AXIS, GLFW_GAMEPAD_AXIS_LEFT_X, -1, false, 0.2f)
         }, true);
+
+        subscribeKey(GLFW_KEY_ESCAPE, InputBus.RELEASE);
     }
 
     @Override
-    protected void onUpdate() {
-        if (getEngine().getKeyRelease(GLFW_KEY_ESCAPE))
+    protected void onKey(final int key, final int scancode, final int action, final int mods) {
+        if (key == GLFW_KEY_ESCAPE)
             getEngine().stop();
     }
 }
@@ -2,6 +2,7 @@ package io.scriptor.edge;
 
 import io.scriptor.engine.IYamlNode;
 import io.scriptor.engine.data.Mesh;
+import io.scriptor.engine.data.VertexLayout;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.joml.*;
@@ -123,10 +124,10 @@ public record Level(
     }
 
     public void generate(final @NotNull Mesh defaultMesh, final @Nullable Mesh @NotNull ... meshes) {
-        defaultMesh.clear();
+        defaultMesh.setLayout(VertexLayout.PACKED).clear();
         for (final var mesh : meshes)
             if (mesh != null)
-                mesh.clear();
+                mesh.setLayout(VertexLayout.PACKED).clear();
 
         final var baseColor    = new Vector4f(1.0f, 1.0f, 1.0f, 1.0f);
         final var checkerColor = new Vector4f(0.95f, 0.95f, 0.95f, 1.0f);
@@ -137,9 +138,10 @@ public record Level(
                     generateBlock(x, y, z, defaultMesh, meshes, baseColor, checkerColor);
 
         defaultMesh.apply();
-        for (final var mesh : meshes)
-            if (mesh != null)
-                mesh.apply();
+        Arrays.stream(meshes)
+              .filter(Objects::nonNull)
+              .distinct()
+              .forEach(Mesh::apply);
     }
 
     private void generateBlock(
@@ -166,11 +168,27 @@ public record Level(
                 baseMesh = mesh;
                 break;
 
-            case PULSE_NORTH,
-                 PULSE_SOUTH,
-                 PULSE_EAST,
-                 PULSE_WEST,
-                 SHRINK,
+            case PULSE_NORTH:
+                color = PULSE_Z;
+                baseMesh = Objects.requireNonNull(meshes[0]);
+                break;
+
+            case PULSE_SOUTH:
+                color = PULSE_Z_FLIPPED;
+                baseMesh = Objects.requireNonNull(meshes[0]);
+                break;
+
+            case PULSE_EAST:
+                color = PULSE_X;
+                baseMesh = Objects.requireNonNull(meshes[0]);
+                break;
+
+            case PULSE_WEST:
+                color = PULSE_X_FLIPPED;
+                baseMesh = Objects.requireNonNull(meshes[0]);
+                break;
+
+            case SHRINK,
                  MAGNIFY,
                  PUSH,
                  END_FRAME,
@@ -197,6 +215,12 @@ public record Level(
             generateFullBlock(pos, baseMesh, mesh, baseColor, color);
     }
 
+    // the pulse shader reads its axis from red and its direction from green
+    private static final @NotNull Vector4fc PULSE_X = new Vector4f(0.0f, 0.0f, 0.0f, 1.0f);
+    private static final @NotNull Vector4fc PULSE_Z = new Vector4f(1.0f, 0.0f, 0.0f, 1.0f);
+    private static final @NotNull Vector4fc PULSE_X_FLIPPED = new Vector4f(0.0f, 1.0f, 0.0f, 1.0f);
+    private static final @NotNull Vector4fc PULSE_Z_FLIPPED = new Vector4f(1.0f, 1.0f, 0.0f, 1.0f);
+
     private static final @NotNull Vector3fc DX = new Vector3f(0.5f, 0.0f, 0.0f);
     private static final @NotNull Vector3fc DY = new Vector3f(0.0f, 0.5f, 0.0f);
     private static final @NotNull Vector3fc DZ = new Vector3f(0.0f, 0.0f, 0.5f);
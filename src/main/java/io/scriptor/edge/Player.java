@@ -62,7 +62,7 @@ public class Player extends Cycle {
     }
 
     @Override
-    protected void onUpdate() {
+    protected void onFixed() {
 
         final var falling = isFalling();
 
@@ -76,11 +76,11 @@ public class Player extends Cycle {
         grounded = !falling;
 
         if (falling) {
-            final var d = getEngine().getDeltaTime() * 9.81f;
+            final var d = getEngine().getFixedDeltaTime() * 9.81f;
             transform.translate(0.0f, -d, 0.0f);
 
             if (transform.getTranslation().y() < -10.0f)
-                transform.setTranslation(world.getSpawn());
+                transform.setTranslation(world.getSpawn()).snapshot();
 
             return;
         }
@@ -183,10 +183,7 @@ public class Player extends Cycle {
             }
         }
 
-        if (Math.abs(force) > 0.2f)
-            move(force, invert);
-        else
-            relax();
+        final var landed = Math.abs(force) > 0.2f ? move(force, invert) : relax();
 
         final var a = 0.5f * value * Math.PI_f;
 
@@ -202,10 +199,17 @@ public class Player extends Cycle {
 
         final var cameraCenter = new Vector4f().mul(cubeTransform.getRawMatrix());
         cameraTransform.setTranslation(cameraCenter.xyz(new Vector3f()));
+
+        // the roll ends on a new tile with the cube reset, so there is nothing to interpolate from
+        if (landed) {
+            transform.snapshot();
+            cubeTransform.snapshot();
+            cameraTransform.snapshot();
+        }
     }
 
-    private void move(final float force, final boolean invert) {
-        final var dv = getEngine().getDeltaTime() * force * 2.0f;
+    private boolean move(final float force, final boolean invert) {
+        final var dv = getEngine().getFixedDeltaTime() * force * 2.0f;
         if (invert) {
             value -= dv;
             if (value < 1e-5f) {
@@ -216,12 +220,14 @@ public class Player extends Cycle {
             if (value >= endValue) {
                 transform.translate(dx, dy, dz);
                 direction = Direction.NONE;
+                return true;
             }
         }
+        return false;
     }
 
-    private void relax() {
-        move(1.0f, value <= flipValue);
+    private boolean relax() {
+        return move(1.0f, value <= flipValue);
     }
 
     private boolean isFalling() {
@@ -4,7 +4,6 @@ import io.scriptor.engine.Cycle;
 import io.scriptor.engine.Engine;
 import io.scriptor.engine.component.Model;
 import io.scriptor.engine.component.Transform;
-import io.scriptor.engine.data.IUniform.Uniform1f;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.joml.Math;
@@ -29,16 +28,14 @@ public class Prism extends Cycle {
     protected void onStart() {
         transform = addComponent(Transform.class).setScale(0.4f);
 
-        addComponent(Model.class, RAINBOW_PRISM, CUBE)
-                .getMaterial()
-                .ok(material -> material
-                        .uniform(SPEED, Uniform1f.class)
-                        .set(20.0f));
+        addComponent(Model.class, RAINBOW, CUBE)
+                .getInstance()
+                .set(SPEED, 20.0f);
     }
 
     @Override
-    protected void onUpdate() {
-        final var time = getEngine().getTime();
+    protected void onFixed() {
+        final var time = getEngine().getFixedTime();
         final var dy   = Math.sin(time * 2.0f) * 0.2f;
 
         transform
@@ -5,8 +5,8 @@ import io.scriptor.engine.Engine;
 import io.scriptor.engine.ModelLoader;
 import io.scriptor.engine.component.Model;
 import io.scriptor.engine.component.Transform;
-import io.scriptor.engine.data.IUniform.Uniform1f;
 import io.scriptor.engine.data.Mesh;
+import io.scriptor.engine.data.MeshInfo;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.joml.Vector3f;
@@ -14,12 +14,13 @@ import org.joml.Vector3fc;
 import org.joml.Vector3ic;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
 import static io.scriptor.edge.Constant.*;
+import static io.scriptor.engine.data.Resources.load;
 import static io.scriptor.engine.data.Resources.open;
-import static io.scriptor.engine.data.Resources.openVoid;
 
 public class World extends Cycle {
 
@@ -45,15 +46,16 @@ public class World extends Cycle {
 
     @Override
     protected void onStart() {
-        final var defaultMesh    = Mesh.create(DEFAULT).get();
-        final var baseMesh       = Mesh.create(BASE).get();
-        final var pulseNorthMesh = Mesh.create(PULSE_NORTH).get();
-        final var pulseSouthMesh = Mesh.create(PULSE_SOUTH).get();
-        final var pulseEastMesh  = Mesh.create(PULSE_EAST).get();
-        final var pulseWestMesh  = Mesh.create(PULSE_WEST).get();
-        final var endFrameMesh   = Mesh.create(END_FRAME).get();
+        final var defaultMesh  = Mesh.create(DEFAULT).get();
+        final var baseMesh     = Mesh.create(BASE).get();
+        final var pulseMesh    = Mesh.create(PULSE).get();
+        final var endFrameMesh = Mesh.create(END_FRAME).get();
 
-        openVoid("model/cube.yaml", ModelLoader::loadModel);
+        getEngine()
+                .getJobs()
+                .submit(() -> load("model/cube.yaml", ModelLoader::importModel))
+                .thenMain(infos -> Arrays.stream(infos).forEach(MeshInfo::create))
+                .catchMain(e -> e.printStackTrace(System.err));
 
         open("map/first_contact.yaml", Level::load)
                 .ok(lvl -> {
@@ -61,10 +63,10 @@ public class World extends Cycle {
                     lvl.generate(
                             defaultMesh,
                             baseMesh,
-                            pulseNorthMesh,
-                            pulseSouthMesh,
-                            pulseEastMesh,
-                            pulseWestMesh,
+                            pulseMesh,
+                            pulseMesh,
+                            pulseMesh,
+                            pulseMesh,
                             null,
                             null,
                             null,
@@ -79,16 +81,11 @@ public class World extends Cycle {
 
         addComponent(Model.class, DEFAULT, DEFAULT);
         addComponent(Model.class, BASE, BASE);
-        addComponent(Model.class, PULSE_NORTH, PULSE_NORTH);
-        addComponent(Model.class, PULSE_SOUTH, PULSE_SOUTH);
-        addComponent(Model.class, PULSE_EAST, PULSE_EAST);
-        addComponent(Model.class, PULSE_WEST, PULSE_WEST);
+        addComponent(Model.class, PULSE, PULSE);
 
         addComponent(Model.class, RAINBOW, END_FRAME)
-                .getMaterial()
-                .ok(material -> material
-                        .uniform(SPEED, Uniform1f.class)
-                        .set(10.0f));
+                .getInstance()
+                .set(SPEED, 10.0f);
     }
 
     public boolean isAir(int x, int y, int z) {
@@ -5,10 +5,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.InvocationTargetException;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 import java.util.stream.Stream;
 
 public abstract class Cycle implements IDestructible {
@@ -18,6 +15,8 @@ public abstract class Cycle implements IDestructible {
     private final @NotNull Engine engine;
     private final @Nullable Cycle parent;
     private final @NotNull Map<Class<?>, @NotNull List<Component>> components = new HashMap<>();
+    private final @NotNull Set<Cycle> dependencies = new HashSet<>();
+    private final @NotNull List<InputBus.Subscription> subscriptions = new ArrayList<>();
 
     protected Cycle(final @NotNull Engine engine, final @Nullable Cycle parent) {
         this.engine = engine;
@@ -36,6 +35,49 @@ public abstract class Cycle implements IDestructible {
         return parent == null;
     }
 
+    public @NotNull Cycle runAfter(final @NotNull Cycle other) {
+        if (dependencies.add(other))
+            engine.invalidateSchedule();
+        return this;
+    }
+
+    public @NotNull Cycle runBefore(final @NotNull Cycle other) {
+        other.runAfter(this);
+        return this;
+    }
+
+    @NotNull Set<Cycle> getDependencies() {
+        return dependencies;
+    }
+
+    public @NotNull InputBus.Subscription subscribeKey(
+            final int key,
+            final int actions,
+            final @Nullable String context,
+            final @NotNull InputBus.KeyListener listener
+    ) {
+        final var subscription = engine.getInputBus().subscribe(key, actions, context, listener);
+        synchronized (subscriptions) {
+            subscriptions.add(subscription);
+        }
+        return subscription;
+    }
+
+    public @NotNull InputBus.Subscription subscribeKey(final int key, final int actions) {
+        return subscribeKey(key, actions, null, this::key);
+    }
+
+    public @NotNull InputBus.Subscription subscribeKey(final int key) {
+        return subscribeKey(key, InputBus.ANY_ACTION);
+    }
+
+    public void unsubscribeKey(final @NotNull InputBus.Subscription subscription) {
+        synchronized (subscriptions) {
+            subscriptions.remove(subscription);
+        }
+        engine.getInputBus().unsubscribe(subscription);
+    }
+
     public <T extends Component> @NotNull T addComponent(
             final @NotNull Class<T> type,
             final @NotNull Object @NotNull ... args
@@ -144,9 +186,15 @@ public abstract class Cycle implements IDestructible {
     protected void onStart() {
     }
 
+    /**
+     * Runs once per frame on a worker thread without a GL context, see {@link Scheduler}.
+     */
     protected void onUpdate() {
     }
 
+    /**
+     * Runs once per fixed step on a worker thread without a GL context, see {@link Scheduler}.
+     */
     protected void onFixed() {
     }
 
@@ -157,6 +205,10 @@ public abstract class Cycle implements IDestructible {
     }
 
     protected void onDestroy() {
+        synchronized (subscriptions) {
+            subscriptions.forEach(engine.getInputBus()::unsubscribe);
+            subscriptions.clear();
+        }
         components.values().forEach(list -> list.forEach(Component::destroy));
     }
 }
@@ -3,49 +3,85 @@ package io.scriptor.engine;
 import io.scriptor.engine.component.Camera;
 import io.scriptor.engine.component.Model;
 import io.scriptor.engine.component.Transform;
-import io.scriptor.engine.data.IUniform.Uniform1f;
-import io.scriptor.engine.data.IUniform.Uniform3f;
-import io.scriptor.engine.data.IUniform.UniformMatrix4f;
-import io.scriptor.engine.data.Vertex;
+import io.scriptor.engine.data.MeshArena;
+import io.scriptor.engine.gl.GLState;
+import io.scriptor.engine.render.Frame;
+import io.scriptor.engine.render.DrawList;
+import io.scriptor.engine.render.FramePacer;
+import io.scriptor.engine.render.GLRenderBackend;
+import io.scriptor.engine.render.RenderThread;
+import io.scriptor.engine.render.Renderer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.joml.Matrix4f;
+import org.joml.Matrix4fc;
 import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GLCapabilities;
 import org.lwjgl.system.MemoryUtil;
 
 import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
-import static io.scriptor.edge.Constant.*;
 import static org.lwjgl.glfw.GLFW.*;
 import static org.lwjgl.opengl.GL11.*;
 import static org.lwjgl.opengl.GL13.GL_MULTISAMPLE;
-import static org.lwjgl.opengl.GL20.*;
 import static org.lwjgl.opengl.GL43.*;
 import static org.lwjgl.system.MemoryUtil.NULL;
 
 public class Engine implements IDestructible {
 
-    private static class Key {
+    private static class KeySet {
 
-        private boolean now;
-        private boolean previous;
+        private final long[] now;
+        private final long[] pressed;
+        private final long[] released;
 
-        public void update(final boolean now) {
-            this.previous = this.now;
-            this.now = now;
+        public KeySet(final int count) {
+            final var words = (count + 63) >>> 6;
+            this.now = new long[words];
+            this.pressed = new long[words];
+            this.released = new long[words];
         }
 
-        public boolean down() {
-            return this.now;
+        public void latch() {
+            Arrays.fill(pressed, 0L);
+            Arrays.fill(released, 0L);
         }
 
-        public boolean press() {
-            return !this.previous && this.now;
+        public void set(final int index, final boolean down) {
+            if (index < 0 || (index >>> 6) >= now.length)
+                return;
+
+            // edges accumulate per event, so a press and release within one frame both register
+            final var word = index >>> 6;
+            final var bit  = 1L << index;
+            if (down) {
+                pressed[word] |= bit & ~now[word];
+                now[word] |= bit;
+            } else {
+                released[word] |= bit & now[word];
+                now[word] &= ~bit;
+            }
+        }
+
+        private static boolean test(final long @NotNull [] bits, final int index) {
+            if (index < 0 || (index >>> 6) >= bits.length)
+                return false;
+            return (bits[index >>> 6] & (1L << index)) != 0L;
+        }
+
+        public boolean down(final int index) {
+            return test(now, index);
         }
 
-        public boolean release() {
-            return this.previous && !this.now;
+        public boolean press(final int index) {
+            return test(pressed, index);
+        }
+
+        public boolean release(final int index) {
+            return test(released, index);
         }
     }
 
@@ -54,9 +90,12 @@ public class Engine implements IDestructible {
         private float xNow, yNow;
         private float xPrevious, yPrevious;
 
-        public void update(final float xNow, final float yNow) {
+        public void latch() {
             this.xPrevious = this.xNow;
             this.yPrevious = this.yNow;
+        }
+
+        public void set(final float xNow, final float yNow) {
             this.xNow = xNow;
             this.yNow = yNow;
         }
@@ -95,23 +134,35 @@ public class Engine implements IDestructible {
     ) {
     }
 
-    private static class Axis implements Iterable<AxisInput> {
+    private static class Axis {
 
-        private final AxisInput[] inputs;
+        private final AxisType[] types;
+        private final int[] indices;
+        private final int[] joysticks;
+        private final boolean[] negatives;
+        private final float[] deads;
         private final boolean snap;
         private float value;
 
         public Axis(final @NotNull AxisInput @NotNull [] inputs, final boolean snap) {
-            this.inputs = inputs;
+            this.types = new AxisType[inputs.length];
+            this.indices = new int[inputs.length];
+            this.joysticks = new int[inputs.length];
+            this.negatives = new boolean[inputs.length];
+            this.deads = new float[inputs.length];
             this.snap = snap;
-        }
 
-        public int getInputCount() {
-            return inputs.length;
+            for (int i = 0; i < inputs.length; ++i) {
+                types[i] = inputs[i].type();
+                indices[i] = inputs[i].index();
+                joysticks[i] = inputs[i].joystick();
+                negatives[i] = inputs[i].negative();
+                deads[i] = Math.abs(inputs[i].dead());
+            }
         }
 
-        public @NotNull AxisInput getInput(final int index) {
-            return inputs[index];
+        public int getInputCount() {
+            return types.length;
         }
 
         public float getValue() {
@@ -121,37 +172,41 @@ public class Engine implements IDestructible {
         public void setValue(final float value) {
             this.value = value;
         }
-
-        @Override
-        public @NotNull Iterator<AxisInput> iterator() {
-            return new Iterator<>() {
-
-                private int index = 0;
-
-                @Override
-                public boolean hasNext() {
-                    return index < inputs.length;
-                }
-
-                @Override
-                public AxisInput next() {
-                    if (index >= inputs.length)
-                        throw new NoSuchElementException();
-                    return inputs[index++];
-                }
-            };
-        }
     }
 
+    private static final int DRAW_GRAIN = 64;
+
     private final Window window;
 
     private final Map<String, Cycle> cycles = new HashMap<>();
-    private final Map<Integer, Key> keys = new HashMap<>();
-    private final Map<Integer, Key> buttons = new HashMap<>();
+    private final KeySet keys = new KeySet(GLFW_KEY_LAST + 1);
+    private final KeySet buttons = new KeySet(GLFW_MOUSE_BUTTON_LAST + 1);
     private final Mouse mouse = new Mouse();
+    private final InputBuffer input = new InputBuffer(256);
+    private final InputBus inputBus = new InputBus();
+    private long inputTime;
     private final Map<String, Axis> axes = new HashMap<>();
-
-    private final Map<String, Cycle> nextCycles = new HashMap<>();
+    private final List<Axis> axisList = new ArrayList<>();
+    private final Gamepads gamepads;
+
+    private final Map<String, Cycle> nextCycles = new ConcurrentHashMap<>();
+    private final JobSystem jobs;
+    private final Scheduler scheduler;
+
+    private final GLCapabilities capabilities;
+    private final Renderer renderer = new Renderer(new GLRenderBackend());
+    private final FramePacer pacer;
+    private final Frame frame = new Frame();
+    private final DrawList[] drawLists;
+    private final Matrix4f cameraScratch = new Matrix4f();
+    private Cycle[] drawables = new Cycle[0];
+    private boolean drawablesDirty = true;
+    private boolean threaded;
+    private @Nullable Path recordPath;
+    private @Nullable Path replayPath;
+    private @Nullable InputRecorder recorder;
+    private @Nullable InputReplay replay;
+    private @Nullable RenderThread renderThread;
 
     private int width;
     private int height;
@@ -159,26 +214,34 @@ public class Engine implements IDestructible {
     private float previousTime;
     private float deltaTime;
 
-    private Timer timer;
+    private int tickRate = 60;
+    private int maxTicks = 5;
+    private float accumulator;
+    private long tick;
 
     public Engine(final @NotNull String title, final int width, final int height) {
         window = new Window(this, title, width, height);
+        gamepads = new Gamepads();
         this.width = width;
         this.height = height;
 
-        GL.createCapabilities();
+        jobs = new JobSystem();
+        scheduler = new Scheduler(jobs);
+
+        drawLists = new DrawList[jobs.getWorkerCount() * 4];
+        for (int i = 0; i < drawLists.length; ++i)
+            drawLists[i] = new DrawList();
+
+        capabilities = GL.createCapabilities();
 
         glEnable(GL_DEBUG_OUTPUT);
         glEnable(GL_DEBUG_OUTPUT_SYNCHRONOUS);
         glDebugMessageCallback(this::onMessage, NULL);
 
-        glEnable(GL_MULTISAMPLE);
+        GLState.invalidate();
+        GLState.enable(GL_MULTISAMPLE);
 
-        for (int key = GLFW_KEY_SPACE; key <= GLFW_KEY_LAST; ++key)
-            keys.put(key, new Key());
-
-        for (int button = GLFW_MOUSE_BUTTON_1; button <= GLFW_MOUSE_BUTTON_LAST; ++button)
-            buttons.put(button, new Key());
+        pacer = new FramePacer(window);
     }
 
     public <T extends Cycle> @NotNull T addCycle(
@@ -233,39 +296,27 @@ public class Engine implements IDestructible {
     }
 
     public boolean getKey(final int key) {
-        if (!keys.containsKey(key))
-            return false;
-        return keys.get(key).down();
+        return keys.down(key);
     }
 
     public boolean getKeyPress(final int key) {
-        if (!keys.containsKey(key))
-            return false;
-        return keys.get(key).press();
+        return keys.press(key);
     }
 
     public boolean getKeyRelease(final int key) {
-        if (!keys.containsKey(key))
-            return false;
-        return keys.get(key).release();
+        return keys.release(key);
     }
 
     public boolean getMouseButton(final int button) {
-        if (!buttons.containsKey(button))
-            return false;
-        return buttons.get(button).down();
+        return buttons.down(button);
     }
 
     public boolean getMouseButtonPress(final int button) {
-        if (!buttons.containsKey(button))
-            return false;
-        return buttons.get(button).press();
+        return buttons.press(button);
     }
 
     public boolean getMouseButtonRelease(final int button) {
-        if (!buttons.containsKey(button))
-            return false;
-        return buttons.get(button).release();
+        return buttons.release(button);
     }
 
     public float getMouseAxis(final int axis) {
@@ -276,6 +327,22 @@ public class Engine implements IDestructible {
         };
     }
 
+    public @NotNull FramePacer getPacer() {
+        return pacer;
+    }
+
+    public @NotNull InputBus getInputBus() {
+        return inputBus;
+    }
+
+    public float getInputLatency() {
+        return pacer.getInputLatency();
+    }
+
+    public @NotNull JobSystem getJobs() {
+        return jobs;
+    }
+
     public float getTime() {
         return (float) glfwGetTime();
     }
@@ -284,6 +351,55 @@ public class Engine implements IDestructible {
         return deltaTime;
     }
 
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    public @NotNull Engine setTickRate(final int tickRate) {
+        if (tickRate <= 0)
+            throw new IllegalStateException();
+        this.tickRate = tickRate;
+        return this;
+    }
+
+    public int getMaxTicks() {
+        return maxTicks;
+    }
+
+    public @NotNull Engine setMaxTicks(final int maxTicks) {
+        if (maxTicks <= 0 || maxTicks > InputRecorder.MAX_TICKS)
+            throw new IllegalStateException();
+        this.maxTicks = maxTicks;
+        return this;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public float getFixedDeltaTime() {
+        return 1.0f / tickRate;
+    }
+
+    public float getFixedTime() {
+        return tick * getFixedDeltaTime();
+    }
+
+    public boolean isThreaded() {
+        return threaded;
+    }
+
+    public @NotNull Engine setThreaded(final boolean threaded) {
+        if (renderThread != null)
+            throw new IllegalStateException();
+        this.threaded = threaded;
+        return this;
+    }
+
+    public float getAlpha() {
+        return accumulator / getFixedDeltaTime();
+    }
+
     public int getWidth() {
         return width;
     }
@@ -295,7 +411,9 @@ public class Engine implements IDestructible {
     public void addAxis(final @NotNull String id, final @NotNull AxisInput @NotNull [] inputs, final boolean snap) {
         if (axes.containsKey(id))
             throw new IllegalStateException();
-        axes.put(id, new Axis(inputs, snap));
+        final var axis = new Axis(inputs, snap);
+        axes.put(id, axis);
+        axisList.add(axis);
     }
 
     public float getAxis(final @NotNull String id) {
@@ -304,23 +422,62 @@ public class Engine implements IDestructible {
         return axes.get(id).getValue();
     }
 
-    public void start() {
-        onStart();
+    public @NotNull Engine setRecording(final @Nullable Path path) {
+        if (recorder != null)
+            throw new IllegalStateException();
+        this.recordPath = path;
+        return this;
+    }
 
-        timer.scheduleAtFixedRate(new TimerTask() {
+    public @NotNull Engine setReplay(final @Nullable Path path) {
+        if (replay != null)
+            throw new IllegalStateException();
+        this.replayPath = path;
+        return this;
+    }
 
-            @Override
-            public void run() {
-                cycles.values().forEach(Cycle::fixed);
-            }
+    public boolean isReplaying() {
+        return replay != null;
+    }
+
+    public void start() {
+        if (replayPath != null) {
+            replay = new InputReplay(replayPath);
+            tickRate = replay.getTickRate();
+        }
+        if (recordPath != null)
+            recorder = new InputRecorder(recordPath, tickRate);
+
+        onStart();
 
-        }, 50, 50);
+        previousTime = getTime();
 
         window.open(true);
-        while (window.update())
-            onUpdate();
+        if (threaded) {
+            renderThread = new RenderThread(window, capabilities, renderer, pacer);
+            while (window.isOpen()) {
+                pacer.limit();
+                onUpdate();
+            }
+            renderThread.destroy();
+            renderThread = null;
+        } else {
+            while (window.isOpen()) {
+                pacer.limit();
+                onUpdate();
+                window.swap();
+                pacer.present(frame);
+            }
+        }
 
-        timer.cancel();
+        if (recorder != null) {
+            recorder.destroy();
+            recorder = null;
+        }
+        if (replay != null) {
+            replay.destroy();
+            replay = null;
+        }
 
         onStop();
     }
@@ -338,12 +495,22 @@ public class Engine implements IDestructible {
     }
 
     public void onKey(final long handle, final int key, final int scancode, final int action, final int mods) {
-        cycles.forEach((id, cycle) -> cycle.key(key, scancode, action, mods));
+        input.key(InputBuffer.now(), key, scancode, action, mods);
     }
 
-    public void onSize(final long handle, final int width, final int height) {
-        glViewport(0, 0, width, height);
+    public void onJoystick(final int joystick, final int event) {
+        gamepads.connect(joystick, event);
+    }
+
+    public void onMouseButton(final long handle, final int button, final int action, final int mods) {
+        input.button(InputBuffer.now(), button, action, mods);
+    }
+
+    public void onCursorPos(final long handle, final double x, final double y) {
+        input.cursor(InputBuffer.now(), x, y);
+    }
 
+    public void onSize(final long handle, final int width, final int height) {
         this.width = width;
         this.height = height;
 
@@ -371,12 +538,24 @@ public class Engine implements IDestructible {
 
     private void startNextCycles() {
         while (!nextCycles.isEmpty()) {
+            final var started = new ArrayList<>(nextCycles.values());
             cycles.putAll(nextCycles);
             nextCycles.clear();
             cycles.values().forEach(Cycle::start);
+            started.forEach(Engine::snapshot);
+            scheduler.invalidate();
+            drawablesDirty = true;
         }
     }
 
+    void invalidateSchedule() {
+        scheduler.invalidate();
+    }
+
+    private static void snapshot(final @NotNull Cycle cycle) {
+        cycle.stream(Transform.class).forEach(Transform::snapshot);
+    }
+
     private void onStart() {
         startNextCycles();
 
@@ -386,165 +565,256 @@ public class Engine implements IDestructible {
               .filter(cycle -> cycle.hasComponent(Camera.class))
               .map(cycle -> cycle.getComponent(Camera.class))
               .forEach(camera -> camera.setAspect(aspect));
-
-        timer = new Timer();
     }
 
-    private void updateKeys() {
-        keys.forEach((id, key) -> key.update(window.getKey(id)));
-    }
+    private void updateInput() {
+        window.poll();
 
-    private void updateButtons() {
-        buttons.forEach((id, button) -> button.update(window.getMouseButton(id)));
-    }
+        keys.latch();
+        buttons.latch();
+        mouse.latch();
 
-    private void updateMouse() {
-        final var position = window.getMousePosition();
-        mouse.update(position[0], position[1]);
+        inputTime = 0L;
+        for (int i = 0; i < input.size(); ++i) {
+            if (inputTime == 0L)
+                inputTime = input.getTime(i);
+
+            switch (input.getType(i)) {
+                case InputBuffer.KEY -> {
+                    final var key      = input.getCode(i);
+                    final var scancode = input.getScancode(i);
+                    final var action   = input.getAction(i);
+                    final var mods     = input.getMods(i);
+                    keys.set(key, action != GLFW_RELEASE);
+                    inputBus.dispatch(key, scancode, action, mods);
+                }
+                case InputBuffer.BUTTON -> {
+                    buttons.set(input.getCode(i), input.getAction(i) != GLFW_RELEASE);
+                }
+                case InputBuffer.CURSOR -> mouse.set((float) input.getX(i), (float) input.getY(i));
+                default -> {
+                }
+            }
+        }
+        input.clear();
     }
 
     private void updateAxes() {
-        axes.forEach((id, axis) -> {
-            final List<Float> positiveValues = new ArrayList<>();
-            final List<Float> negativeValues = new ArrayList<>();
-            axis.forEach(input -> {
-                final boolean negative;
-                final float   value;
-
-                switch (input.type()) {
+        gamepads.update();
+
+        for (int a = 0; a < axisList.size(); ++a) {
+            final var axis = axisList.get(a);
+
+            float   maxPositive = 0.0f, maxNegative = 0.0f;
+            boolean anyPositive = false, anyNegative = false;
+
+            for (int i = 0; i < axis.getInputCount(); ++i) {
+                final var index = axis.indices[i];
+
+                boolean     negative = axis.negatives[i];
+                final float value;
+
+                switch (axis.types[i]) {
                     case KEYBOARD:
-                        value = getKey(input.index()) ? 1.0f : 0.0f;
-                        negative = input.negative();
+                        value = keys.down(index) ? 1.0f : 0.0f;
                         break;
                     case MOUSE_BUTTON:
-                        value = getMouseButton(input.index()) ? 1.0f : 0.0f;
-                        negative = input.negative();
+                        value = buttons.down(index) ? 1.0f : 0.0f;
                         break;
                     case MOUSE_AXIS:
-                        value = input.negative() ? -getMouseAxis(input.index()) : getMouseAxis(input.index());
+                        value = negative ? -getMouseAxis(index) : getMouseAxis(index);
                         negative = value < 0.0f;
                         break;
                     case JOY_BUTTON:
-                        value = window.getJoyButton(input.joystick(), input.index()) ? 1.0f : 0.0f;
-                        negative = input.negative();
+                        value = gamepads.getButton(axis.joysticks[i], index) ? 1.0f : 0.0f;
                         break;
                     case JOY_AXIS:
-                        value = input.negative()
-                                ? -window.getJoyAxis(input.joystick(), input.index())
-                                : window.getJoyAxis(input.joystick(), input.index());
+                        value = negative
+                                ? -gamepads.getAxis(axis.joysticks[i], index)
+                                : gamepads.getAxis(axis.joysticks[i], index);
                         negative = value < 0.0f;
                         break;
                     default:
-                        return;
+                        continue;
                 }
 
                 final var absValue = Math.abs(value);
-                if (absValue <= Math.abs(input.dead()))
-                    return;
+                if (absValue <= axis.deads[i])
+                    continue;
 
                 if (negative) {
-                    negativeValues.add(absValue);
+                    anyNegative = true;
+                    maxNegative = Math.max(maxNegative, absValue);
                 } else {
-                    positiveValues.add(absValue);
+                    anyPositive = true;
+                    maxPositive = Math.max(maxPositive, absValue);
                 }
-            });
+            }
 
-            if (!positiveValues.isEmpty() && !negativeValues.isEmpty() && axis.snap)
+            if (anyPositive && anyNegative && axis.snap)
                 axis.setValue(0.0f);
-            else {
-                final var maxPositive = positiveValues.stream().max(Float::compare).orElse(0.0f);
-                final var maxNegative = negativeValues.stream().max(Float::compare).orElse(0.0f);
+            else
                 axis.setValue(maxPositive - maxNegative);
-            }
-        });
+        }
     }
 
-    private void onUpdate() {
-        final var time = getTime();
-        deltaTime = time - previousTime;
-        previousTime = time;
+    private void updateTicks() {
+        final var step = getFixedDeltaTime();
 
-        startNextCycles();
+        accumulator += deltaTime;
+
+        int count = 0;
+        while (accumulator >= step && count < maxTicks) {
+            accumulator -= step;
+            ++count;
+        }
+
+        if (accumulator >= step)
+            accumulator %= step;
 
-        updateKeys();
-        updateButtons();
-        updateMouse();
-        updateAxes();
+        if (replay != null) {
+            count = replay.frame();
+            if (count < 0) {
+                stop();
+                return;
+            }
+        }
+
+        if (recorder != null)
+            recorder.frame(count, axisList.size());
+
+        for (int i = 0; i < count; ++i) {
+            if (replay != null)
+                replayAxes(replay);
+            if (recorder != null)
+                recordAxes(recorder);
+
+            scheduler.run(cycles, Engine::snapshot);
+            scheduler.run(cycles, Cycle::fixed);
+            ++tick;
+        }
+    }
 
-        glEnable(GL_DEPTH_TEST);
-        glEnable(GL_CULL_FACE);
-        glEnable(GL_MULTISAMPLE);
-        glEnable(GL_BLEND);
+    private void replayAxes(final @NotNull InputReplay replay) {
+        for (int a = 0; a < replay.getAxisCount(); ++a) {
+            final var value = replay.value();
+            if (a < axisList.size())
+                axisList.get(a).setValue(value);
+        }
+    }
 
-        glBlendFunc(GL_SRC_ALPHA, GL_ONE_MINUS_SRC_ALPHA);
-        glClearColor(0.0f, 0.0f, 0.0f, 1.0f);
+    private void recordAxes(final @NotNull InputRecorder recorder) {
+        for (int a = 0; a < axisList.size(); ++a)
+            recorder.value(axisList.get(a).getValue());
+    }
 
-        glClear(GL_COLOR_BUFFER_BIT | GL_DEPTH_BUFFER_BIT);
+    private void buildFrame(final @NotNull Frame frame) {
+        frame.begin(width, height, getTime());
+        frame.setSunDirection(-0.4f, -0.7f, 0.5f);
 
         final var camera = cycles
                 .values()
                 .stream()
                 .filter(cycle -> cycle.hasComponent(Camera.class))
                 .findFirst();
-        if (camera.isEmpty()) {
-            cycles.values().forEach(Cycle::update);
+        if (camera.isEmpty())
             return;
-        }
 
         final var cameraTransform = camera.get().getComponent(Transform.class);
         final var cameraCamera    = camera.get().getComponent(Camera.class);
 
-        final var view = cameraTransform.getInverse();
-        final var proj = cameraCamera.getMatrix();
+        final var alpha = getAlpha();
 
-        cycles.forEach((id, cycle) -> cycle.stream(Model.class).forEach(model -> {
-            final var transform = cycle.hasComponent(Transform.class)
-                                  ? cycle.getComponent(Transform.class).getMatrix()
-                                  : new Matrix4f();
+        frame.setCamera(cameraTransform.getInverse(alpha, cameraScratch), cameraCamera.getMatrix());
 
-            model.getMaterial().ok(material -> {
+        if (drawablesDirty) {
+            drawablesDirty = false;
+            drawables = cycles.values().toArray(Cycle[]::new);
+        }
 
-                material.uniform(VIEW, UniformMatrix4f.class).set(false, view);
-                material.uniform(PROJECTION, UniformMatrix4f.class).set(false, proj);
-                material.uniform(TRANSFORM, UniformMatrix4f.class).set(false, transform);
-                material.uniform(TIME, Uniform1f.class).set(getTime());
-                material.uniform(SUN_DIRECTION, Uniform3f.class).set(-0.4f, -0.7f, 0.5f);
+        final var targets = drawables;
+        final var chunks  = Math.min(drawLists.length, Math.max(1, (targets.length + DRAW_GRAIN - 1) / DRAW_GRAIN));
+        final var size    = (targets.length + chunks - 1) / chunks;
 
-                material.bind();
+        jobs.parallelFor(0, chunks, 1, chunk -> {
+            final var list = drawLists[chunk];
+            list.begin(frame.getView(), frame.getProjection());
 
-                model.stream().filter(Ref::ok).map(Ref::get).forEach(mesh -> {
-                    mesh.bind();
+            final var end = Math.min(targets.length, (chunk + 1) * size);
+            for (int i = chunk * size; i < end; ++i)
+                collect(targets[i], list, alpha);
+        });
 
-                    glEnableVertexAttribArray(0);
-                    glEnableVertexAttribArray(1);
-                    glEnableVertexAttribArray(2);
-                    glEnableVertexAttribArray(3);
+        for (int chunk = 0; chunk < chunks; ++chunk)
+            frame.add(drawLists[chunk]);
+    }
 
-                    var offset = NULL;
-                    glVertexAttribPointer(0, 3, GL_FLOAT, false, Vertex.BYTES, offset);
-                    offset += Float.BYTES * 3L;
-                    glVertexAttribPointer(1, 2, GL_FLOAT, false, Vertex.BYTES, offset);
-                    offset += Float.BYTES * 2L;
-                    glVertexAttribPointer(2, 3, GL_FLOAT, false, Vertex.BYTES, offset);
-                    offset += Float.BYTES * 3L;
-                    glVertexAttribPointer(3, 4, GL_FLOAT, false, Vertex.BYTES, offset);
-                    offset += Float.BYTES * 4L;
+    private static void collect(final @NotNull Cycle cycle, final @NotNull DrawList list, final float alpha) {
+        if (!cycle.hasComponent(Model.class))
+            return;
 
-                    glDrawElements(GL_TRIANGLES, mesh.count(), GL_UNSIGNED_INT, NULL);
+        final Matrix4fc transform, normal;
+        if (cycle.hasComponent(Transform.class)) {
+            final var component = cycle.getComponent(Transform.class);
+            transform = component.getMatrix(alpha, list.getScratch(), list.getRotationScratch());
+            normal = component.getNormal(alpha, transform);
+        } else {
+            transform = normal = list.getScratch().identity();
+        }
 
-                    glDisableVertexAttribArray(0);
-                    glDisableVertexAttribArray(1);
-                    glDisableVertexAttribArray(2);
-                    glDisableVertexAttribArray(3);
+        cycle.stream(Model.class).forEach(model -> model.getMaterial().ok(material -> {
+            for (int i = 0; i < model.getMeshCount(); ++i) {
+                final var mesh = model.getMesh(i);
+                if (mesh.ok())
+                    list.add(material, mesh.get(), transform, normal, model.getInstance().getParams());
+            }
+        }));
+    }
 
-                    mesh.unbind();
-                });
+    private void withContext(final @NotNull Runnable task) {
+        if (renderThread == null) {
+            task.run();
+            return;
+        }
 
-                material.unbind();
-            });
-        }));
+        renderThread.acquire();
+        try {
+            task.run();
+        } finally {
+            renderThread.release();
+        }
+    }
+
+    private void onUpdate() {
+        final var time = getTime();
+        deltaTime = time - previousTime;
+        previousTime = time;
+
+        if (jobs.hasPending())
+            withContext(jobs::flush);
+
+        if (!nextCycles.isEmpty())
+            withContext(this::startNextCycles);
+
+        updateInput();
+        if (replay == null)
+            updateAxes();
 
-        cycles.values().forEach(Cycle::update);
+        updateTicks();
+
+        if (renderThread != null) {
+            final var next = renderThread.begin();
+            buildFrame(next);
+            next.setInputTime(inputTime);
+            renderThread.submit(next);
+        } else {
+            buildFrame(frame);
+            frame.setInputTime(inputTime);
+            pacer.sync();
+            renderer.render(frame);
+        }
+
+        scheduler.run(cycles, Cycle::update);
     }
 
     private void onStop() {
@@ -554,6 +824,12 @@ public class Engine implements IDestructible {
     private void onDestroy() {
         cycles.values().forEach(Cycle::destroy);
 
+        jobs.destroy();
+        pacer.destroy();
+        renderer.destroy();
+        gamepads.destroy();
+        MeshArena.destroy();
+
         GL.destroy();
         window.destroy();
     }
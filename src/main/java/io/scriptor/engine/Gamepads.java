@@ -0,0 +1,70 @@
+package io.scriptor.engine;
+
+import org.lwjgl.glfw.GLFWGamepadState;
+
+import static org.lwjgl.glfw.GLFW.*;
+
+public class Gamepads implements IDestructible {
+
+    private final GLFWGamepadState[] states = new GLFWGamepadState[GLFW_JOYSTICK_LAST + 1];
+    private final boolean[] connected = new boolean[GLFW_JOYSTICK_LAST + 1];
+    private final boolean[] valid = new boolean[GLFW_JOYSTICK_LAST + 1];
+    private int primary = -1;
+
+    public Gamepads() {
+        for (int i = GLFW_JOYSTICK_1; i <= GLFW_JOYSTICK_LAST; ++i) {
+            states[i] = GLFWGamepadState.calloc();
+            connected[i] = glfwJoystickPresent(i) && glfwJoystickIsGamepad(i);
+        }
+    }
+
+    public void connect(final int joystick, final int event) {
+        if (joystick < GLFW_JOYSTICK_1 || joystick > GLFW_JOYSTICK_LAST)
+            return;
+        connected[joystick] = event == GLFW_CONNECTED && glfwJoystickIsGamepad(joystick);
+    }
+
+    public boolean isConnected(final int joystick) {
+        return joystick >= GLFW_JOYSTICK_1 && joystick <= GLFW_JOYSTICK_LAST && connected[joystick];
+    }
+
+    public int getPrimary() {
+        return primary;
+    }
+
+    public void update() {
+        primary = -1;
+        for (int i = GLFW_JOYSTICK_1; i <= GLFW_JOYSTICK_LAST; ++i) {
+            valid[i] = connected[i] && glfwGetGamepadState(i, states[i]);
+            if (valid[i] && primary < 0)
+                primary = i;
+        }
+    }
+
+    private int resolve(final int joystick) {
+        final var index = joystick < 0 ? primary : joystick;
+        if (index < GLFW_JOYSTICK_1 || index > GLFW_JOYSTICK_LAST || !valid[index])
+            return -1;
+        return index;
+    }
+
+    public boolean getButton(final int joystick, final int button) {
+        final var index = resolve(joystick);
+        if (index < 0 || button < 0 || button > GLFW_GAMEPAD_BUTTON_LAST)
+            return false;
+        return states[index].buttons(button) != 0;
+    }
+
+    public float getAxis(final int joystick, final int axis) {
+        final var index = resolve(joystick);
+        if (index < 0 || axis < 0 || axis > GLFW_GAMEPAD_AXIS_LAST)
+            return 0.0f;
+        return states[index].axes(axis);
+    }
+
+    @Override
+    public void destroy() {
+        for (final var state : states)
+            state.free();
+    }
+}
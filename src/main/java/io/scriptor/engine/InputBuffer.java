@@ -0,0 +1,129 @@
+package io.scriptor.engine;
+
+import static org.lwjgl.glfw.GLFW.glfwGetTime;
+
+public class InputBuffer {
+
+    public static final int KEY = 0;
+    public static final int BUTTON = 1;
+    public static final int CURSOR = 2;
+
+    private final int mask;
+
+    private final long[] times;
+    private final int[] types;
+    private final int[] codes;
+    private final int[] scancodes;
+    private final int[] actions;
+    private final int[] mods;
+    private final double[] xs;
+    private final double[] ys;
+
+    /**
+     * GLFW reports no OS event timestamps, so events are stamped with the GLFW timer when their callback is
+     * delivered during the poll. Latency measured against this clock starts at delivery, not at the device.
+     */
+    public static long now() {
+        return (long) (glfwGetTime() * 1e9);
+    }
+
+    private int head;
+    private int tail;
+    private int dropped;
+
+    public InputBuffer(final int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1)
+            throw new IllegalStateException();
+
+        mask = capacity - 1;
+        times = new long[capacity];
+        types = new int[capacity];
+        codes = new int[capacity];
+        scancodes = new int[capacity];
+        actions = new int[capacity];
+        mods = new int[capacity];
+        xs = new double[capacity];
+        ys = new double[capacity];
+    }
+
+    private int push(final long time, final int type) {
+        if (head - tail > mask) {
+            ++tail;
+            ++dropped;
+        }
+
+        final var slot = head++ & mask;
+        times[slot] = time;
+        types[slot] = type;
+        return slot;
+    }
+
+    public void key(final long time, final int key, final int scancode, final int action, final int mods) {
+        final var slot = push(time, KEY);
+        this.codes[slot] = key;
+        this.scancodes[slot] = scancode;
+        this.actions[slot] = action;
+        this.mods[slot] = mods;
+    }
+
+    public void button(final long time, final int button, final int action, final int mods) {
+        final var slot = push(time, BUTTON);
+        this.codes[slot] = button;
+        this.actions[slot] = action;
+        this.mods[slot] = mods;
+    }
+
+    public void cursor(final long time, final double x, final double y) {
+        final var slot = push(time, CURSOR);
+        this.xs[slot] = x;
+        this.ys[slot] = y;
+    }
+
+    public boolean isEmpty() {
+        return head == tail;
+    }
+
+    public int size() {
+        return head - tail;
+    }
+
+    public int getDropped() {
+        return dropped;
+    }
+
+    public long getTime(final int index) {
+        return times[(tail + index) & mask];
+    }
+
+    public int getType(final int index) {
+        return types[(tail + index) & mask];
+    }
+
+    public int getCode(final int index) {
+        return codes[(tail + index) & mask];
+    }
+
+    public int getScancode(final int index) {
+        return scancodes[(tail + index) & mask];
+    }
+
+    public int getAction(final int index) {
+        return actions[(tail + index) & mask];
+    }
+
+    public int getMods(final int index) {
+        return mods[(tail + index) & mask];
+    }
+
+    public double getX(final int index) {
+        return xs[(tail + index) & mask];
+    }
+
+    public double getY(final int index) {
+        return ys[(tail + index) & mask];
+    }
+
+    public void clear() {
+        tail = head;
+    }
+}
@@ -0,0 +1,122 @@
+package io.scriptor.engine;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.lwjgl.glfw.GLFW.*;
+
+public class InputBus {
+
+    @FunctionalInterface
+    public interface KeyListener {
+        void onKey(final int key, final int scancode, final int action, final int mods);
+    }
+
+    public record Subscription(
+            int key,
+            int actions,
+            @Nullable String context,
+            @NotNull KeyListener listener
+    ) {
+    }
+
+    public static final int ANY_KEY = -1;
+
+    public static final int RELEASE = 1 << GLFW_RELEASE;
+    public static final int PRESS = 1 << GLFW_PRESS;
+    public static final int REPEAT = 1 << GLFW_REPEAT;
+    public static final int ANY_ACTION = RELEASE | PRESS | REPEAT;
+
+    private static final Subscription[] EMPTY = new Subscription[0];
+
+    private final Subscription[][] table = new Subscription[GLFW_KEY_LAST + 2][];
+    private final Set<String> disabled = new HashSet<>();
+
+    public InputBus() {
+        Arrays.fill(table, EMPTY);
+    }
+
+    private static int slot(final int key) {
+        if (key == ANY_KEY)
+            return 0;
+        if (key < 0 || key > GLFW_KEY_LAST)
+            return -1;
+        return key + 1;
+    }
+
+    public synchronized @NotNull Subscription subscribe(
+            final int key,
+            final int actions,
+            final @Nullable String context,
+            final @NotNull KeyListener listener
+    ) {
+        final var slot = slot(key);
+        if (slot < 0)
+            throw new IllegalArgumentException("key %d".formatted(key));
+
+        final var subscription = new Subscription(key, actions, context, listener);
+        final var list         = Arrays.copyOf(table[slot], table[slot].length + 1);
+        list[list.length - 1] = subscription;
+        table[slot] = list;
+        return subscription;
+    }
+
+    public synchronized void unsubscribe(final @NotNull Subscription subscription) {
+        final var slot = slot(subscription.key());
+        final var list = table[slot];
+        for (int i = 0; i < list.length; ++i) {
+            if (list[i] != subscription)
+                continue;
+
+            final var next = new Subscription[list.length - 1];
+            System.arraycopy(list, 0, next, 0, i);
+            System.arraycopy(list, i + 1, next, i, list.length - i - 1);
+            table[slot] = next.length == 0 ? EMPTY : next;
+            return;
+        }
+    }
+
+    public synchronized void setContextEnabled(final @NotNull String context, final boolean enabled) {
+        if (enabled)
+            disabled.remove(context);
+        else
+            disabled.add(context);
+    }
+
+    public synchronized boolean isContextEnabled(final @Nullable String context) {
+        return context == null || !disabled.contains(context);
+    }
+
+    public void dispatch(final int key, final int scancode, final int action, final int mods) {
+        final var slot = slot(key);
+
+        final Subscription[] keyed, any;
+        synchronized (this) {
+            keyed = slot > 0 ? table[slot] : EMPTY;
+            any = table[0];
+        }
+
+        dispatch(keyed, key, scancode, action, mods);
+        dispatch(any, key, scancode, action, mods);
+    }
+
+    private void dispatch(
+            final @NotNull Subscription @NotNull [] list,
+            final int key,
+            final int scancode,
+            final int action,
+            final int mods
+    ) {
+        for (final var subscription : list) {
+            if ((subscription.actions() & (1 << action)) == 0)
+                continue;
+            if (!isContextEnabled(subscription.context()))
+                continue;
+            subscription.listener().onKey(key, scancode, action, mods);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.scriptor.engine;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class InputRecorder implements IDestructible {
+
+    public static final int MAGIC = 0x45444752;
+    public static final int VERSION = 2;
+    public static final int MAX_TICKS = 0xFFFF;
+
+    private final @NotNull DataOutputStream stream;
+
+    public InputRecorder(final @NotNull Path path, final int tickRate) {
+        try {
+            stream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+            stream.writeInt(MAGIC);
+            stream.writeShort(VERSION);
+            stream.writeShort(tickRate);
+        } catch (final @NotNull IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public void frame(final int ticks, final int axes) {
+        if (ticks < 0 || ticks > MAX_TICKS)
+            throw new IllegalStateException("cannot record %d ticks in one frame".formatted(ticks));
+        try {
+            stream.writeShort(ticks);
+            stream.writeShort(axes);
+        } catch (final @NotNull IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public void value(final float value) {
+        try {
+            stream.writeFloat(value);
+        } catch (final @NotNull IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        try {
+            stream.close();
+        } catch (final @NotNull IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package io.scriptor.engine;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class InputReplay implements IDestructible {
+
+    private final @NotNull DataInputStream stream;
+    private final int tickRate;
+    private int axes;
+
+    public InputReplay(final @NotNull Path path) {
+        try {
+            stream = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+            if (stream.readInt() != InputRecorder.MAGIC)
+                throw new IllegalStateException("not an input recording: %s".formatted(path));
+            final var version = stream.readUnsignedShort();
+            if (version != InputRecorder.VERSION)
+                throw new IllegalStateException("unsupported input recording version %d".formatted(version));
+            tickRate = stream.readUnsignedShort();
+        } catch (final @NotNull IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    public int getAxisCount() {
+        return axes;
+    }
+
+    public int frame() {
+        try {
+            final var ticks = stream.readUnsignedShort();
+            axes = stream.readUnsignedShort();
+            return ticks;
+        } catch (final @NotNull EOFException e) {
+            return -1;
+        } catch (final @NotNull IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public float value() {
+        try {
+            return stream.readFloat();
+        } catch (final @NotNull IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        try {
+            stream.close();
+        } catch (final @NotNull IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.scriptor.engine;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public class Job<T> {
+
+    private final @NotNull JobSystem jobs;
+    private final @NotNull CompletableFuture<T> future;
+
+    Job(final @NotNull JobSystem jobs, final @NotNull CompletableFuture<T> future) {
+        this.jobs = jobs;
+        this.future = future;
+    }
+
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    @NotNull CompletableFuture<T> getFuture() {
+        return future;
+    }
+
+    public T join() {
+        return future.join();
+    }
+
+    public <R> @NotNull Job<R> then(final @NotNull Function<T, R> continuation) {
+        return new Job<>(jobs, future.thenApplyAsync(continuation, jobs.getPool()));
+    }
+
+    public @NotNull Job<Void> thenMain(final @NotNull Consumer<T> continuation) {
+        return new Job<>(jobs, future.thenAcceptAsync(continuation, jobs::post));
+    }
+
+    public @NotNull Job<T> catchMain(final @NotNull Consumer<Throwable> handler) {
+        return new Job<>(jobs, future.whenCompleteAsync((value, throwable) -> {
+            if (throwable == null)
+                return;
+            handler.accept(throwable instanceof CompletionException && throwable.getCause() != null
+                           ? throwable.getCause()
+                           : throwable);
+        }, jobs::post));
+    }
+}
@@ -0,0 +1,148 @@
+package io.scriptor.engine;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+public class JobSystem implements IDestructible {
+
+    private static class Range extends RecursiveAction {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final int begin;
+        private final int end;
+        private final int grain;
+        private final transient @NotNull IntConsumer body;
+
+        public Range(final int begin, final int end, final int grain, final @NotNull IntConsumer body) {
+            this.begin = begin;
+            this.end = end;
+            this.grain = grain;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - begin <= grain) {
+                for (int i = begin; i < end; ++i)
+                    body.accept(i);
+                return;
+            }
+
+            final var middle = (begin + end) >>> 1;
+            invokeAll(
+                    new Range(begin, middle, grain, body),
+                    new Range(middle, end, grain, body));
+        }
+    }
+
+    private class Worker extends ForkJoinWorkerThread {
+
+        private final int core;
+
+        public Worker(final @NotNull ForkJoinPool pool, final int index) {
+            super(pool);
+            this.core = 1 + index % Math.max(1, topology.getCoreCount() - 1);
+            setName("edge-worker-" + index);
+        }
+
+        @Override
+        protected void onStart() {
+            super.onStart();
+            topology.bind(core);
+        }
+    }
+
+    private final @NotNull Topology topology = new Topology();
+    private final @NotNull AtomicInteger workers = new AtomicInteger();
+    private final @NotNull ForkJoinPool pool;
+    private final @NotNull Queue<Runnable> main = new ConcurrentLinkedQueue<>();
+
+    public JobSystem() {
+        final var parallelism = Math.max(1, topology.getCoreCount() - 1);
+        pool = new ForkJoinPool(
+                parallelism,
+                p -> new Worker(p, workers.getAndIncrement()),
+                null,
+                false);
+    }
+
+    public @NotNull ForkJoinPool getPool() {
+        return pool;
+    }
+
+    public int getWorkerCount() {
+        return pool.getParallelism();
+    }
+
+    public <T> @NotNull Job<T> submit(final @NotNull Supplier<T> task) {
+        return new Job<>(this, CompletableFuture.supplyAsync(task, pool));
+    }
+
+    public @NotNull Job<Void> submit(final @NotNull Runnable task) {
+        return new Job<>(this, CompletableFuture.runAsync(task, pool));
+    }
+
+    public @NotNull Job<Void> all(final @NotNull Job<?> @NotNull ... children) {
+        final var futures = Arrays
+                .stream(children)
+                .map(Job::getFuture)
+                .toArray(CompletableFuture[]::new);
+        return new Job<>(this, CompletableFuture.allOf(futures));
+    }
+
+    public void parallelFor(final int begin, final int end, final int grain, final @NotNull IntConsumer body) {
+        if (end - begin <= grain) {
+            for (int i = begin; i < end; ++i)
+                body.accept(i);
+            return;
+        }
+
+        pool.invoke(new Range(begin, end, Math.max(1, grain), body));
+    }
+
+    public void parallelFor(final int begin, final int end, final @NotNull IntConsumer body) {
+        parallelFor(begin, end, Math.max(1, (end - begin) / (getWorkerCount() * 4)), body);
+    }
+
+    public void post(final @NotNull Runnable task) {
+        main.add(task);
+    }
+
+    public boolean hasPending() {
+        return !main.isEmpty();
+    }
+
+    public void flush() {
+        for (var count = main.size(); count > 0; --count) {
+            final var task = main.poll();
+            if (task == null)
+                break;
+            task.run();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdownNow();
+        try {
+            // workers bind through the native topology, so it must outlive them
+            if (!pool.awaitTermination(5L, TimeUnit.SECONDS)) {
+                System.err.println("job system workers did not terminate, leaking the topology");
+                return;
+            }
+        } catch (final @NotNull InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        topology.destroy();
+    }
+}
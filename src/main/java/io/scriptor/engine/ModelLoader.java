@@ -20,6 +20,11 @@ public class ModelLoader {
     }
 
     public static void loadModel(final @NotNull InputStream stream) {
+        for (final var info : importModel(stream))
+            info.create();
+    }
+
+    public static @NotNull MeshInfo @NotNull [] importModel(final @NotNull InputStream stream) {
         final var node = IYamlNode.load(stream);
 
         final var path = node
@@ -54,7 +59,7 @@ public class ModelLoader {
         assert pScene != null;
 
         processMaterials(pScene);
-        processMeshes(pScene);
+        return processMeshes(pScene);
     }
 
     private static void processMaterials(final @NotNull AIScene pScene) {
@@ -106,10 +111,12 @@ public class ModelLoader {
         }
     }
 
-    private static void processMeshes(final @NotNull AIScene pScene) {
+    private static @NotNull MeshInfo @NotNull [] processMeshes(final @NotNull AIScene pScene) {
         final var ppMeshes = pScene.mMeshes();
         assert ppMeshes != null;
 
+        final var infos = new MeshInfo[pScene.mNumMeshes()];
+
         for (int i = 0; i < pScene.mNumMeshes(); ++i) {
             final var pMesh = AIMesh.create(ppMeshes.get(i));
             final var name  = pMesh.mName().dataString();
@@ -150,8 +157,9 @@ public class ModelLoader {
                 indices[j * 3 + 2] = pFace.mIndices().get(2);
             }
 
-            final var info = new MeshInfo(name, vertices, indices);
-            info.create();
+            infos[i] = new MeshInfo(name, vertices, indices);
         }
+
+        return infos;
     }
 }
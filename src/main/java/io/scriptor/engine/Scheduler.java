@@ -0,0 +1,104 @@
+package io.scriptor.engine;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Runs an action over all cycles in dependency waves. A cycle runs only after its parent and its declared
+ * dependencies, and the cycles within one wave run in parallel on the job system's worker threads.
+ * <p>
+ * Workers have no GL context. Actions must not call GL directly; post GL work with
+ * {@link JobSystem#post(Runnable)} or {@link Job#thenMain}, which the engine runs on the main thread while it
+ * holds the context.
+ */
+public class Scheduler {
+
+    private final @NotNull JobSystem jobs;
+
+    private boolean dirty = true;
+    private @NotNull Cycle @NotNull [] @NotNull [] waves = new Cycle[0][];
+
+    public Scheduler(final @NotNull JobSystem jobs) {
+        this.jobs = jobs;
+    }
+
+    public void invalidate() {
+        dirty = true;
+    }
+
+    public int getWaveCount() {
+        return waves.length;
+    }
+
+    public void run(final @NotNull Map<String, Cycle> cycles, final @NotNull Consumer<Cycle> action) {
+        if (dirty) {
+            dirty = false;
+            waves = build(cycles);
+        }
+
+        for (final var wave : waves)
+            jobs.parallelFor(0, wave.length, i -> action.accept(wave[i]));
+    }
+
+    private static @NotNull Cycle @NotNull [] @NotNull [] build(final @NotNull Map<String, Cycle> cycles) {
+        final var sorted = cycles
+                .entrySet()
+                .stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(Map.Entry::getValue)
+                .toList();
+
+        final Map<Cycle, Integer> levels = new IdentityHashMap<>();
+        final Set<Cycle> visiting = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Set<Cycle> known = Collections.newSetFromMap(new IdentityHashMap<>());
+        known.addAll(sorted);
+
+        int count = 0;
+        for (final var cycle : sorted)
+            count = Math.max(count, level(cycle, known, levels, visiting) + 1);
+
+        final List<List<Cycle>> waves = new ArrayList<>();
+        for (int i = 0; i < count; ++i)
+            waves.add(new ArrayList<>());
+        for (final var cycle : sorted)
+            waves.get(levels.get(cycle)).add(cycle);
+
+        return waves
+                .stream()
+                .map(wave -> wave.toArray(Cycle[]::new))
+                .toArray(Cycle[][]::new);
+    }
+
+    private static int level(
+            final @NotNull Cycle cycle,
+            final @NotNull Set<Cycle> known,
+            final @NotNull Map<Cycle, Integer> levels,
+            final @NotNull Set<Cycle> visiting
+    ) {
+        final var cached = levels.get(cycle);
+        if (cached != null)
+            return cached;
+
+        if (!visiting.add(cycle))
+            throw new IllegalStateException("cyclic update dependency at %s".formatted(cycle));
+
+        int level = 0;
+        for (final var dependency : dependencies(cycle))
+            if (known.contains(dependency))
+                level = Math.max(level, level(dependency, known, levels, visiting) + 1);
+
+        visiting.remove(cycle);
+        levels.put(cycle, level);
+        return level;
+    }
+
+    private static @NotNull List<Cycle> dependencies(final @NotNull Cycle cycle) {
+        final List<Cycle> dependencies = new ArrayList<>(cycle.getDependencies());
+        final var parent = cycle.getParent();
+        if (parent != null)
+            dependencies.add(parent);
+        return dependencies;
+    }
+}
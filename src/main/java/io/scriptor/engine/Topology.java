@@ -0,0 +1,57 @@
+package io.scriptor.engine;
+
+import org.lwjgl.system.MemoryStack;
+
+import static org.lwjgl.system.MemoryUtil.NULL;
+import static org.lwjgl.util.hwloc.HWLoc.*;
+
+public class Topology implements IDestructible {
+
+    private final long handle;
+    private final int cores;
+
+    public Topology() {
+        long handle = NULL;
+        int  cores  = 0;
+
+        try (final var stack = MemoryStack.stackPush()) {
+            final var pTopology = stack.mallocPointer(1);
+            if (hwloc_topology_init(pTopology) == 0) {
+                handle = pTopology.get(0);
+                if (hwloc_topology_load(handle) == 0) {
+                    cores = hwloc_get_nbobjs_by_type(handle, HWLOC_OBJ_CORE);
+                } else {
+                    hwloc_topology_destroy(handle);
+                    handle = NULL;
+                }
+            }
+        } catch (final LinkageError e) {
+            System.err.printf("[Topology] hwloc unavailable: %s%n", e);
+            handle = NULL;
+        }
+
+        this.handle = handle;
+        this.cores = cores > 0 ? cores : Runtime.getRuntime().availableProcessors();
+    }
+
+    public int getCoreCount() {
+        return cores;
+    }
+
+    public boolean bind(final int core) {
+        if (handle == NULL)
+            return false;
+
+        final var obj = hwloc_get_obj_by_type(handle, HWLOC_OBJ_CORE, core % cores);
+        if (obj == null)
+            return false;
+
+        return hwloc_set_cpubind(handle, obj.cpuset(), HWLOC_CPUBIND_THREAD) == 0;
+    }
+
+    @Override
+    public void destroy() {
+        if (handle != NULL)
+            hwloc_topology_destroy(handle);
+    }
+}
@@ -1,9 +1,7 @@
 package io.scriptor.engine;
 
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 import org.lwjgl.glfw.GLFWErrorCallback;
-import org.lwjgl.glfw.GLFWGamepadState;
 import org.lwjgl.system.NativeResource;
 
 import java.util.Optional;
@@ -29,10 +27,12 @@ public class Window implements IDestructible {
             throw new IllegalStateException();
 
         Optional.ofNullable(glfwSetKeyCallback(handle, engine::onKey)).ifPresent(NativeResource::close);
+        Optional.ofNullable(glfwSetMouseButtonCallback(handle, engine::onMouseButton)).ifPresent(NativeResource::close);
+        Optional.ofNullable(glfwSetCursorPosCallback(handle, engine::onCursorPos)).ifPresent(NativeResource::close);
         Optional.ofNullable(glfwSetWindowSizeCallback(handle, engine::onSize)).ifPresent(NativeResource::close);
+        Optional.ofNullable(glfwSetJoystickCallback(engine::onJoystick)).ifPresent(NativeResource::close);
 
         glfwMakeContextCurrent(handle);
-        glfwSwapInterval(GLFW_TRUE);
     }
 
     public void open(final boolean open) {
@@ -43,14 +43,6 @@ public class Window implements IDestructible {
         return !glfwWindowShouldClose(handle);
     }
 
-    public boolean getKey(final int key) {
-        return glfwGetKey(handle, key) == GLFW_PRESS;
-    }
-
-    public boolean getMouseButton(final int button) {
-        return glfwGetMouseButton(handle, button) == GLFW_PRESS;
-    }
-
     public float[] getMousePosition() {
         final double[] x = new double[1], y = new double[1];
         glfwGetCursorPos(handle, x, y);
@@ -65,56 +57,34 @@ public class Window implements IDestructible {
         return glfwJoystickIsGamepad(joystick);
     }
 
-    public int findGamepad() {
-        for (int i = GLFW_JOYSTICK_1; i <= GLFW_JOYSTICK_16; ++i)
-            if (isPresent(i) && isGamepad(i))
-                return i;
-        return -1;
+    public void makeCurrent() {
+        glfwMakeContextCurrent(handle);
     }
 
-    public @Nullable GLFWGamepadState getState(int joystick) {
-        if (joystick < 0) {
-            final var i = findGamepad();
-            if (i < 0)
-                return null;
-
-            joystick = i;
-        }
-
-        final var state = GLFWGamepadState.create();
-        if (glfwGetGamepadState(joystick, state))
-            return state;
-
-        return null;
+    public void release() {
+        glfwMakeContextCurrent(NULL);
     }
 
-    public boolean getJoyButton(final int joystick, final int button) {
-        final var state = getState(joystick);
-        if (state == null)
-            return false;
-
-        return state.buttons(button) != 0;
+    public void setSwapInterval(final int interval) {
+        glfwSwapInterval(interval);
     }
 
-    public float getJoyAxis(final int joystick, final int axis) {
-        final var state = getState(joystick);
-        if (state == null)
-            return 0.0f;
-
-        return state.axes(axis);
+    public boolean isExtensionSupported(final @NotNull String extension) {
+        return glfwExtensionSupported(extension);
     }
 
-    public boolean update() {
-        if (glfwWindowShouldClose(handle))
-            return false;
+    public void swap() {
         glfwSwapBuffers(handle);
+    }
+
+    public void poll() {
         glfwPollEvents();
-        return true;
     }
 
     @Override
     public void destroy() {
         glfwFreeCallbacks(handle);
+        Optional.ofNullable(glfwSetJoystickCallback(null)).ifPresent(NativeResource::close);
         glfwDestroyWindow(handle);
 
         glfwTerminate();
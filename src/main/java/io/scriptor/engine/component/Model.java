@@ -3,6 +3,7 @@ package io.scriptor.engine.component;
 import io.scriptor.engine.Cycle;
 import io.scriptor.engine.Ref;
 import io.scriptor.engine.data.Material;
+import io.scriptor.engine.data.MaterialInstance;
 import io.scriptor.engine.data.Mesh;
 import org.jetbrains.annotations.NotNull;
 
@@ -13,6 +14,7 @@ public class Model extends Component {
 
     private final @NotNull Ref<Material> material;
     private final @NotNull Ref<Mesh> @NotNull [] meshes;
+    private final @NotNull MaterialInstance instance;
 
     @SafeVarargs
     public Model(
@@ -24,6 +26,7 @@ public class Model extends Component {
 
         this.material = material;
         this.meshes = meshes;
+        this.instance = new MaterialInstance(material);
 
         this.material.use();
         Arrays.stream(this.meshes).forEach(Ref::use);
@@ -54,6 +57,10 @@ public class Model extends Component {
         return material;
     }
 
+    public @NotNull MaterialInstance getInstance() {
+        return instance;
+    }
+
     public @NotNull Ref<Mesh> getMesh() {
         return meshes[0];
     }
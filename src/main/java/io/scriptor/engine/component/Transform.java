@@ -2,6 +2,7 @@ package io.scriptor.engine.component;
 
 import io.scriptor.engine.Cycle;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.joml.*;
 import org.joml.Math;
 
@@ -12,16 +13,35 @@ public class Transform extends Component {
     private final Vector3f scale = new Vector3f(1);
     private final Vector3f pivot = new Vector3f();
 
+    private final Vector3f previousTranslation = new Vector3f();
+    private final Quaternionf previousRotation = new Quaternionf();
+    private final Vector3f previousScale = new Vector3f(1);
+    private final Vector3f previousPivot = new Vector3f();
+
     private boolean dirty = false;
+    private boolean moving = false;
+    private long version = 0L;
     private final Matrix4f matrix = new Matrix4f();
     private final Matrix4f inverse = new Matrix4f();
     private final Matrix4f combineMatrix = new Matrix4f();
     private final Matrix4f combineInverse = new Matrix4f();
 
+    private boolean normalValid = false;
+    private long normalVersion;
+    private boolean normalMoving;
+    private float normalAlpha;
+    private final Matrix4f normal = new Matrix4f();
+
     public Transform(final @NotNull Cycle cycle) {
         super(cycle);
     }
 
+    private void touch() {
+        dirty = true;
+        moving = true;
+        ++version;
+    }
+
     public @NotNull Vector3fc getTranslation() {
         return this.translation;
     }
@@ -35,85 +55,85 @@ public class Transform extends Component {
     }
 
     public @NotNull Transform setTranslation(final @NotNull Vector3fc translation) {
-        this.dirty = true;
+        touch();
         this.translation.set(translation);
         return this;
     }
 
     public @NotNull Transform setTranslation(final float x, final float y, final float z) {
-        this.dirty = true;
+        touch();
         this.translation.set(x, y, z);
         return this;
     }
 
     public @NotNull Transform setRotation(final @NotNull Quaternionfc rotation) {
-        this.dirty = true;
+        touch();
         this.rotation.set(rotation);
         return this;
     }
 
     public @NotNull Transform setRotation(final float angle, final @NotNull Vector3fc axis) {
-        this.dirty = true;
+        touch();
         this.rotation.identity().rotateAxis(Math.toRadians(angle), axis);
         return this;
     }
 
     public @NotNull Transform setScale(final @NotNull Vector3fc scale) {
-        this.dirty = true;
+        touch();
         this.scale.set(scale);
         return this;
     }
 
     public @NotNull Transform setScale(final float scale) {
-        this.dirty = true;
+        touch();
         this.scale.set(scale);
         return this;
     }
 
     public @NotNull Transform setPivot(final float x, final float y, final float z) {
-        this.dirty = true;
+        touch();
         this.pivot.set(x, y, z);
         return this;
     }
 
     public @NotNull Transform translate(final @NotNull Vector3fc delta) {
-        this.dirty = true;
+        touch();
         this.translation.add(delta);
         return this;
     }
 
     public @NotNull Transform translate(final float dx, final float dy, final float dz) {
-        this.dirty = true;
+        touch();
         this.translation.add(dx, dy, dz);
         return this;
     }
 
     public @NotNull Transform rotate(final float angle, final @NotNull Vector3fc axis) {
-        this.dirty = true;
+        touch();
         this.rotation.rotateAxis(angle, axis);
         return this;
     }
 
     public @NotNull Transform rotateX(final float angle) {
-        this.dirty = true;
+        touch();
         this.rotation.rotateX(Math.toRadians(angle));
         return this;
     }
 
     public @NotNull Transform rotateY(final float angle) {
-        this.dirty = true;
+        touch();
         this.rotation.rotateY(Math.toRadians(angle));
         return this;
     }
 
     public @NotNull Transform scale(final float delta) {
-        this.dirty = true;
+        touch();
         this.scale.mul(delta);
         return this;
     }
 
     public @NotNull Transform clampTranslation(final @NotNull Vector3fc min, final @NotNull Vector3fc max) {
-        this.dirty = true;
+        touch();
         translation.x = Math.clamp(min.x(), max.x(), translation.x);
         translation.y = Math.clamp(min.y(), max.y(), translation.y);
         translation.z = Math.clamp(min.z(), max.z(), translation.z);
@@ -145,6 +165,83 @@ public class Transform extends Component {
         return combineInverse;
     }
 
+    public @NotNull Matrix4f getMatrix(final float alpha, final @NotNull Matrix4f dest) {
+        return getMatrix(alpha, dest, new Quaternionf());
+    }
+
+    public @NotNull Matrix4f getMatrix(final float alpha, final @NotNull Matrix4f dest, final @NotNull Quaternionf rotation) {
+        final var parent = getParentTransform();
+        if (parent != null)
+            parent.getMatrix(alpha, dest, rotation);
+        else
+            dest.identity();
+
+        if (moving) {
+            previousRotation.slerp(this.rotation, alpha, rotation);
+            compose(
+                    lerp(previousTranslation.x, translation.x, alpha),
+                    lerp(previousTranslation.y, translation.y, alpha),
+                    lerp(previousTranslation.z, translation.z, alpha),
+                    rotation,
+                    lerp(previousScale.x, scale.x, alpha),
+                    lerp(previousScale.y, scale.y, alpha),
+                    lerp(previousScale.z, scale.z, alpha),
+                    lerp(previousPivot.x, pivot.x, alpha),
+                    lerp(previousPivot.y, pivot.y, alpha),
+                    lerp(previousPivot.z, pivot.z, alpha),
+                    dest);
+        } else if (dirty) {
+            compose(translation, this.rotation, scale, pivot, dest);
+        } else {
+            dest.mul(matrix);
+        }
+
+        return dest;
+    }
+
+    public @NotNull Matrix4f getInverse(final float alpha, final @NotNull Matrix4f dest) {
+        return getMatrix(alpha, dest).invert();
+    }
+
+    public @NotNull Matrix4fc getNormal(final float alpha, final @NotNull Matrix4fc world) {
+        long    versions = 0L;
+        boolean chainMoving = false;
+        for (var transform = this; transform != null; transform = transform.getParentTransform()) {
+            versions += transform.version;
+            chainMoving |= transform.moving;
+        }
+
+        if (!normalValid
+            || normalVersion != versions
+            || normalMoving != chainMoving
+            || chainMoving && normalAlpha != alpha) {
+            normalValid = true;
+            normalVersion = versions;
+            normalMoving = chainMoving;
+            normalAlpha = alpha;
+            world.normal(normal);
+        }
+        return normal;
+    }
+
+    private @Nullable Transform getParentTransform() {
+        for (var parent = getCycle().getParent(); parent != null; parent = parent.getParent())
+            if (parent.hasComponent(Transform.class))
+                return parent.getComponent(Transform.class);
+        return null;
+    }
+
+    public @NotNull Transform snapshot() {
+        previousTranslation.set(translation);
+        previousRotation.set(rotation);
+        previousScale.set(scale);
+        previousPivot.set(pivot);
+        if (moving)
+            ++version;
+        moving = false;
+        return this;
+    }
+
     public void update() {
         if (!dirty)
             return;
@@ -154,12 +251,7 @@ public class Transform extends Component {
         final var inversePivot    = pivot.negate(new Vector3f());
         final var inverseRotation = rotation.conjugate(new Quaternionf());
 
-        matrix.identity()
-              .translate(translation)
-              .translate(pivot)
-              .rotate(rotation)
-              .scale(scale)
-              .translate(inversePivot);
+        compose(translation, rotation, scale, pivot, matrix.identity());
 
         inverse.identity()
                .translate(pivot)
@@ -186,4 +278,48 @@ public class Transform extends Component {
         combineMatrix.mul(matrix);
         combineMatrix.invert(combineInverse);
     }
+
+    private static float lerp(final float from, final float to, final float alpha) {
+        return from + (to - from) * alpha;
+    }
+
+    private static void compose(
+            final @NotNull Vector3fc translation,
+            final @NotNull Quaternionfc rotation,
+            final @NotNull Vector3fc scale,
+            final @NotNull Vector3fc pivot,
+            final @NotNull Matrix4f dest
+    ) {
+        compose(translation.x(),
+                translation.y(),
+                translation.z(),
+                rotation,
+                scale.x(),
+                scale.y(),
+                scale.z(),
+                pivot.x(),
+                pivot.y(),
+                pivot.z(),
+                dest);
+    }
+
+    private static void compose(
+            final float tx,
+            final float ty,
+            final float tz,
+            final @NotNull Quaternionfc rotation,
+            final float sx,
+            final float sy,
+            final float sz,
+            final float px,
+            final float py,
+            final float pz,
+            final @NotNull Matrix4f dest
+    ) {
+        dest.translate(tx, ty, tz)
+            .translate(px, py, pz)
+            .rotate(rotation)
+            .scale(sx, sy, sz)
+            .translate(-px, -py, -pz);
+    }
 }
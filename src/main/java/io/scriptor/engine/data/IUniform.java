@@ -3,6 +3,7 @@ package io.scriptor.engine.data;
 import org.jetbrains.annotations.NotNull;
 import org.joml.Matrix4f;
 import org.joml.Matrix4fc;
+import org.lwjgl.system.MemoryStack;
 
 import static org.lwjgl.opengl.GL41.*;
 
@@ -10,10 +11,28 @@ public interface IUniform {
 
     void apply(final int program, final int location);
 
+    @NotNull IUniform copy();
 
-    class Uniform1f implements IUniform {
+    long getVersion();
 
-        public float x;
+    abstract class Base implements IUniform {
+
+        protected long version;
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+
+        protected <T extends Base> @NotNull T withVersion(final @NotNull T uniform) {
+            uniform.version = version;
+            return uniform;
+        }
+    }
+
+    class Uniform1f extends Base {
+
+        private float x;
 
         public Uniform1f() {
             this.x = 0.0f;
@@ -23,19 +42,29 @@ public interface IUniform {
             this.x = x;
         }
 
+        public float getX() {
+            return x;
+        }
+
         @Override
         public void apply(final int program, final int location) {
             glProgramUniform1f(program, location, x);
         }
 
+        @Override
+        public @NotNull Uniform1f copy() {
+            return withVersion(new Uniform1f(x));
+        }
+
         public void set(final float x) {
+            ++this.version;
             this.x = x;
         }
     }
 
-    class Uniform2f implements IUniform {
+    class Uniform2f extends Base {
 
-        public float x, y;
+        private float x, y;
 
         public Uniform2f() {
             this.x = 0.0f;
@@ -47,20 +76,34 @@ public interface IUniform {
             this.y = y;
         }
 
+        public float getX() {
+            return x;
+        }
+
+        public float getY() {
+            return y;
+        }
+
         @Override
         public void apply(final int program, final int location) {
             glProgramUniform2f(program, location, x, y);
         }
 
+        @Override
+        public @NotNull Uniform2f copy() {
+            return withVersion(new Uniform2f(x, y));
+        }
+
         public void set(final float x, final float y) {
+            ++this.version;
             this.x = x;
             this.y = y;
         }
     }
 
-    class Uniform3f implements IUniform {
+    class Uniform3f extends Base {
 
-        public float x, y, z;
+        private float x, y, z;
 
         public Uniform3f() {
             this.x = 0.0f;
@@ -74,21 +117,39 @@ public interface IUniform {
             this.z = z;
         }
 
+        public float getX() {
+            return x;
+        }
+
+        public float getY() {
+            return y;
+        }
+
+        public float getZ() {
+            return z;
+        }
+
         @Override
         public void apply(final int program, final int location) {
             glProgramUniform3f(program, location, x, y, z);
         }
 
+        @Override
+        public @NotNull Uniform3f copy() {
+            return withVersion(new Uniform3f(x, y, z));
+        }
+
         public void set(final float x, final float y, final float z) {
+            ++this.version;
             this.x = x;
             this.y = y;
             this.z = z;
         }
     }
 
-    class Uniform4f implements IUniform {
+    class Uniform4f extends Base {
 
-        public float x, y, z, w;
+        private float x, y, z, w;
 
         public Uniform4f() {
             this.x = 0.0f;
@@ -104,12 +165,34 @@ public interface IUniform {
             this.w = w;
         }
 
+        public float getX() {
+            return x;
+        }
+
+        public float getY() {
+            return y;
+        }
+
+        public float getZ() {
+            return z;
+        }
+
+        public float getW() {
+            return w;
+        }
+
         @Override
         public void apply(final int program, final int location) {
             glProgramUniform4f(program, location, x, y, z, w);
         }
 
+        @Override
+        public @NotNull Uniform4f copy() {
+            return withVersion(new Uniform4f(x, y, z, w));
+        }
+
         public void set(final float x, final float y, final float z, final float w) {
+            ++this.version;
             this.x = x;
             this.y = y;
             this.z = z;
@@ -117,9 +200,9 @@ public interface IUniform {
         }
     }
 
-    class Uniform1i implements IUniform {
+    class Uniform1i extends Base {
 
-        public int x;
+        private int x;
 
         public Uniform1i() {
             this.x = 0;
@@ -129,19 +212,29 @@ public interface IUniform {
             this.x = x;
         }
 
+        public int getX() {
+            return x;
+        }
+
         @Override
         public void apply(final int program, final int location) {
             glProgramUniform1i(program, location, x);
         }
 
+        @Override
+        public @NotNull Uniform1i copy() {
+            return withVersion(new Uniform1i(x));
+        }
+
         public void set(final int x) {
+            ++this.version;
             this.x = x;
         }
     }
 
-    class Uniform2i implements IUniform {
+    class Uniform2i extends Base {
 
-        public int x, y;
+        private int x, y;
 
         public Uniform2i() {
             this.x = 0;
@@ -153,20 +246,34 @@ public interface IUniform {
             this.y = y;
         }
 
+        public int getX() {
+            return x;
+        }
+
+        public int getY() {
+            return y;
+        }
+
         @Override
         public void apply(final int program, final int location) {
             glProgramUniform2i(program, location, x, y);
         }
 
+        @Override
+        public @NotNull Uniform2i copy() {
+            return withVersion(new Uniform2i(x, y));
+        }
+
         public void set(final int x, final int y) {
+            ++this.version;
             this.x = x;
             this.y = y;
         }
     }
 
-    class Uniform3i implements IUniform {
+    class Uniform3i extends Base {
 
-        public int x, y, z;
+        private int x, y, z;
 
         public Uniform3i() {
             this.x = 0;
@@ -180,21 +287,39 @@ public interface IUniform {
             this.z = z;
         }
 
+        public int getX() {
+            return x;
+        }
+
+        public int getY() {
+            return y;
+        }
+
+        public int getZ() {
+            return z;
+        }
+
         @Override
         public void apply(final int program, final int location) {
             glProgramUniform3i(program, location, x, y, z);
         }
 
+        @Override
+        public @NotNull Uniform3i copy() {
+            return withVersion(new Uniform3i(x, y, z));
+        }
+
         public void set(final int x, final int y, final int z) {
+            ++this.version;
             this.x = x;
             this.y = y;
             this.z = z;
         }
     }
 
-    class Uniform4i implements IUniform {
+    class Uniform4i extends Base {
 
-        public int x, y, z, w;
+        private int x, y, z, w;
 
         public Uniform4i() {
             this.x = 0;
@@ -210,12 +335,34 @@ public interface IUniform {
             this.w = w;
         }
 
+        public int getX() {
+            return x;
+        }
+
+        public int getY() {
+            return y;
+        }
+
+        public int getZ() {
+            return z;
+        }
+
+        public int getW() {
+            return w;
+        }
+
         @Override
         public void apply(final int program, final int location) {
             glProgramUniform4i(program, location, x, y, z, w);
         }
 
+        @Override
+        public @NotNull Uniform4i copy() {
+            return withVersion(new Uniform4i(x, y, z, w));
+        }
+
         public void set(final int x, final int y, final int z, final int w) {
+            ++this.version;
             this.x = x;
             this.y = y;
             this.z = z;
@@ -223,10 +370,10 @@ public interface IUniform {
         }
     }
 
-    class UniformMatrix4f implements IUniform {
+    class UniformMatrix4f extends Base {
 
-        public boolean transpose;
-        public final Matrix4f value = new Matrix4f();
+        private boolean transpose;
+        private final Matrix4f value = new Matrix4f();
 
         public UniformMatrix4f() {
             this.transpose = false;
@@ -237,12 +384,28 @@ public interface IUniform {
             this.value.set(value);
         }
 
+        public boolean isTranspose() {
+            return transpose;
+        }
+
+        public @NotNull Matrix4fc getValue() {
+            return value;
+        }
+
         @Override
         public void apply(final int program, final int location) {
-            glProgramUniformMatrix4fv(program, location, transpose, value.get(new float[16]));
+            try (final var stack = MemoryStack.stackPush()) {
+                glProgramUniformMatrix4fv(program, location, transpose, value.get(stack.mallocFloat(16)));
+            }
+        }
+
+        @Override
+        public @NotNull UniformMatrix4f copy() {
+            return withVersion(new UniformMatrix4f(transpose, value));
         }
 
         public void set(final boolean transpose, final @NotNull Matrix4fc value) {
+            ++this.version;
             this.transpose = transpose;
             this.value.set(value);
         }
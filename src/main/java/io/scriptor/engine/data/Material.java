@@ -6,11 +6,14 @@ import io.scriptor.engine.gl.GLProgram;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.InvocationTargetException;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class Material implements IDestructible {
 
+    public record Snapshot(@NotNull String @NotNull [] names, @NotNull IUniform @NotNull [] values) {
+    }
+
     public static @NotNull Ref<Material> get(final @NotNull String id) {
         return Ref.get(Material.class, id);
     }
@@ -23,22 +26,42 @@ public class Material implements IDestructible {
         return create(id, GLProgram.get(programId));
     }
 
+    public static final int PARAMS = 4;
+
+    private static final AtomicInteger ids = new AtomicInteger();
+
+    private final int id = ids.getAndIncrement();
     private final @NotNull Ref<GLProgram> program;
-    private final @NotNull Map<String, IUniform> uniforms = new HashMap<>();
+    private volatile @NotNull String @NotNull [] names = new String[0];
+    private volatile @NotNull IUniform @NotNull [] values = new IUniform[0];
+    private volatile @NotNull String @NotNull [] params = new String[0];
+    private boolean blended;
 
     private Material(final @NotNull Ref<GLProgram> program) {
         this.program = program;
         this.program.use();
     }
 
-    public void bind() {
-        program.ok(GLProgram::bind);
-        uniforms.forEach((name, uniform) -> program.ok(x -> x.uniform(name, uniform)));
+    public int getId() {
+        return id;
+    }
+
+    public boolean isBlended() {
+        return blended;
     }
 
-    public <T extends IUniform> @NotNull T uniform(final @NotNull String name, final @NotNull Class<T> type) {
-        if (uniforms.containsKey(name))
-            return type.cast(uniforms.get(name));
+    public @NotNull Material setBlended(final boolean blended) {
+        this.blended = blended;
+        return this;
+    }
+
+    public synchronized <T extends IUniform> @NotNull T uniform(
+            final @NotNull String name,
+            final @NotNull Class<T> type
+    ) {
+        for (int i = 0; i < names.length; ++i)
+            if (names[i].equals(name))
+                return type.cast(values[i]);
 
         final T instance;
         try {
@@ -50,12 +73,34 @@ public class Material implements IDestructible {
             throw new RuntimeException(e);
         }
 
-        uniforms.put(name, instance);
+        final var nextNames  = Arrays.copyOf(names, names.length + 1);
+        final var nextValues = Arrays.copyOf(values, values.length + 1);
+        nextNames[names.length] = name;
+        nextValues[values.length] = instance;
+        values = nextValues;
+        names = nextNames;
         return instance;
     }
 
-    public void unbind() {
-        program.ok(GLProgram::unbind);
+    public synchronized int param(final @NotNull String name) {
+        for (int i = 0; i < params.length; ++i)
+            if (params[i].equals(name))
+                return i;
+
+        if (params.length == PARAMS)
+            throw new IllegalStateException("material param block is full, cannot add '%s'".formatted(name));
+
+        final var next = Arrays.copyOf(params, params.length + 1);
+        next[params.length] = name;
+        params = next;
+        return params.length - 1;
+    }
+
+    public synchronized @NotNull Snapshot snapshot() {
+        final var copies = new IUniform[values.length];
+        for (int i = 0; i < values.length; ++i)
+            copies[i] = values[i].copy();
+        return new Snapshot(names, copies);
     }
 
     public @NotNull Ref<GLProgram> getProgram() {
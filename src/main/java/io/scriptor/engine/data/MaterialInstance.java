@@ -0,0 +1,34 @@
+package io.scriptor.engine.data;
+
+import io.scriptor.engine.Ref;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Vector4f;
+import org.joml.Vector4fc;
+
+public class MaterialInstance {
+
+    private final @NotNull Ref<Material> material;
+    private final Vector4f params = new Vector4f();
+
+    public MaterialInstance(final @NotNull Ref<Material> material) {
+        this.material = material;
+    }
+
+    public @NotNull Ref<Material> getMaterial() {
+        return material;
+    }
+
+    public @NotNull MaterialInstance set(final @NotNull String name, final float value) {
+        material.ok(x -> params.setComponent(x.param(name), value));
+        return this;
+    }
+
+    public @NotNull MaterialInstance set(final int index, final float value) {
+        params.setComponent(index, value);
+        return this;
+    }
+
+    public @NotNull Vector4fc getParams() {
+        return params;
+    }
+}
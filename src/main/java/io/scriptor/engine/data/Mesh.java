@@ -2,8 +2,11 @@ package io.scriptor.engine.data;
 
 import io.scriptor.engine.IDestructible;
 import io.scriptor.engine.Ref;
+import io.scriptor.engine.gl.GLArena;
 import io.scriptor.engine.gl.GLBuffer;
+import io.scriptor.engine.gl.GLVertexArray;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.joml.Vector2f;
 import org.joml.Vector3f;
 import org.joml.Vector3fc;
@@ -13,6 +16,8 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.lwjgl.opengl.GL15.*;
 
@@ -26,22 +31,69 @@ public class Mesh implements IDestructible {
         return Ref.create(Mesh.class, id, new Mesh());
     }
 
+    private static final AtomicInteger ids = new AtomicInteger();
+
+    private final int id = ids.getAndIncrement();
     private final @NotNull List<Vertex> vertices = new ArrayList<>();
     private final @NotNull List<Integer> indices = new ArrayList<>();
 
-    private final @NotNull GLBuffer vbo = new GLBuffer(GL_ARRAY_BUFFER, GL_DYNAMIC_DRAW);
-    private final @NotNull GLBuffer ibo = new GLBuffer(GL_ELEMENT_ARRAY_BUFFER, GL_DYNAMIC_DRAW);
+    private int vertexCursor;
+    private int indexCursor;
+    private int vertexStart = Integer.MAX_VALUE;
+    private int vertexEnd;
+    private int indexStart = Integer.MAX_VALUE;
+    private int indexEnd;
+
+    private final @NotNull Vector3f min = new Vector3f();
+    private final @NotNull Vector3f max = new Vector3f();
+    private boolean bounds;
+
+    private @NotNull VertexLayout layout = VertexLayout.DEFAULT;
+
+    private int indexType = GL_UNSIGNED_INT;
+
+    private @Nullable GLVertexArray vao;
+    private @Nullable VertexLayout vaoLayout;
+    private @Nullable GLBuffer vbo;
+    private @Nullable GLBuffer ibo;
+
+    private boolean staticStorage;
+    private @Nullable VertexLayout blockLayout;
+    private @Nullable GLArena.Block vertexBlock;
+    private @Nullable GLArena.Block indexBlock;
 
     private Mesh() {
     }
 
+    public int getId() {
+        return id;
+    }
+
+    public @NotNull VertexLayout getLayout() {
+        return layout;
+    }
+
+    public @NotNull Mesh setLayout(final @NotNull VertexLayout layout) {
+        this.layout = layout;
+        return this;
+    }
+
+    public boolean isStatic() {
+        return staticStorage;
+    }
+
+    public @NotNull Mesh setStatic(final boolean staticStorage) {
+        this.staticStorage = staticStorage;
+        return this;
+    }
+
     public void clear() {
-        vertices.clear();
-        indices.clear();
+        vertexCursor = 0;
+        indexCursor = 0;
     }
 
     public void add(final @NotNull Vertex vertex) {
-        vertices.add(vertex);
+        set(vertexCursor++, vertex);
     }
 
     public void add(final @NotNull Vertex... vertices) {
@@ -50,7 +102,16 @@ public class Mesh implements IDestructible {
     }
 
     public void add(final int index) {
-        indices.add(index);
+        final var position = indexCursor++;
+        if (position < indices.size()) {
+            if (indices.get(position) == index)
+                return;
+            indices.set(position, index);
+        } else {
+            indices.add(index);
+        }
+        indexStart = Math.min(indexStart, position);
+        indexEnd = Math.max(indexEnd, position + 1);
     }
 
     public void add(final int... indices) {
@@ -58,13 +119,27 @@ public class Mesh implements IDestructible {
             add(index);
     }
 
+    public void set(final int index, final @NotNull Vertex vertex) {
+        if (index < vertices.size()) {
+            if (vertices.get(index).equals(vertex))
+                return;
+            vertices.set(index, vertex);
+        } else if (index == vertices.size()) {
+            vertices.add(vertex);
+        } else {
+            throw new IndexOutOfBoundsException(index);
+        }
+        vertexStart = Math.min(vertexStart, index);
+        vertexEnd = Math.max(vertexEnd, index + 1);
+    }
+
     public void addQuad(
             final @NotNull Vector3fc origin,
             final @NotNull Vector3fc edge0,
             final @NotNull Vector3fc edge1,
             final @NotNull Vector4fc color
     ) {
-        final var first = vertices.size();
+        final var first = vertexCursor;
 
         final var ne0    = edge0.normalize(new Vector3f());
         final var ne1    = edge1.normalize(new Vector3f());
@@ -79,33 +154,217 @@ public class Mesh implements IDestructible {
     }
 
     public void apply() {
+        if (vertexCursor < vertices.size())
+            vertices.subList(vertexCursor, vertices.size()).clear();
+        if (indexCursor < indices.size())
+            indices.subList(indexCursor, indices.size()).clear();
+        vertexCursor = vertices.size();
+        indexCursor = indices.size();
+
+        bounds = !vertices.isEmpty();
+        min.set(Float.POSITIVE_INFINITY);
+        max.set(Float.NEGATIVE_INFINITY);
+        vertices.forEach(vertex -> {
+            min.min(vertex.position());
+            max.max(vertex.position());
+        });
+
+        if (staticStorage) {
+            applyStatic();
+            return;
+        }
+
+        releaseBlocks();
+
+        final var fresh = vao == null || vaoLayout != layout;
+        if (vao != null && vaoLayout != layout) {
+            vao.destroy();
+            vao = null;
+        }
+        if (vao == null) {
+            vao = new GLVertexArray();
+            vaoLayout = layout;
+        }
+        if (vbo == null)
+            vbo = new GLBuffer(GL_ARRAY_BUFFER, GL_DYNAMIC_DRAW);
+        if (ibo == null)
+            ibo = new GLBuffer(GL_ELEMENT_ARRAY_BUFFER, GL_DYNAMIC_DRAW);
+
+        final var nextIndexType = vertices.size() <= 0x10000 ? GL_UNSIGNED_SHORT : GL_UNSIGNED_INT;
+        if (fresh) {
+            vertexStart = 0;
+            vertexEnd = vertices.size();
+        }
+        if (fresh || nextIndexType != indexType) {
+            indexStart = 0;
+            indexEnd = indices.size();
+        }
+        indexType = nextIndexType;
+
+        vao.bind();
+        vbo.bind();
+        uploadVertices(vbo);
+        if (fresh)
+            layout.apply(vao);
+        ibo.bind();
+        uploadIndices(ibo);
+        vao.unbind();
+
+        vbo.unbind();
+        ibo.unbind();
+    }
+
+    private void applyStatic() {
+        releaseBuffers();
+        releaseBlocks();
+
+        indexType = vertices.size() <= 0x10000 ? GL_UNSIGNED_SHORT : GL_UNSIGNED_INT;
+
         final var vb = ByteBuffer
-                .allocateDirect(Vertex.BYTES * vertices.size())
+                .allocateDirect(layout.getStride() * vertices.size())
                 .order(ByteOrder.nativeOrder());
-        vertices.forEach(vertex -> vertex.get(vb));
+        vertices.forEach(vertex -> layout.write(vertex, vb));
         vb.flip();
-        vbo.bind()
-           .data(vb)
-           .unbind();
 
         final var ib = ByteBuffer
-                .allocateDirect(Integer.BYTES * indices.size())
+                .allocateDirect((indexType == GL_UNSIGNED_SHORT ? Short.BYTES : Integer.BYTES) * indices.size())
                 .order(ByteOrder.nativeOrder());
-        indices.forEach(ib::putInt);
+        if (indexType == GL_UNSIGNED_SHORT)
+            indices.forEach(index -> ib.putShort((short) index.intValue()));
+        else
+            indices.forEach(ib::putInt);
         ib.flip();
-        ibo.bind()
-           .data(ib)
-           .unbind();
+
+        blockLayout = layout;
+        vertexBlock = MeshArena.allocateVertices(layout, vb.remaining());
+        MeshArena.writeVertices(layout, vertexBlock, vb);
+        indexBlock = MeshArena.allocateIndices(ib.remaining());
+        MeshArena.writeIndices(indexBlock, ib);
+
+        vertexStart = Integer.MAX_VALUE;
+        vertexEnd = 0;
+        indexStart = Integer.MAX_VALUE;
+        indexEnd = 0;
+    }
+
+    private void releaseBuffers() {
+        if (vao != null)
+            vao.destroy();
+        if (ibo != null)
+            ibo.destroy();
+        if (vbo != null)
+            vbo.destroy();
+        vao = null;
+        vaoLayout = null;
+        ibo = null;
+        vbo = null;
+    }
+
+    private void releaseBlocks() {
+        if (vertexBlock != null)
+            MeshArena.freeVertices(Objects.requireNonNull(blockLayout), vertexBlock);
+        if (indexBlock != null)
+            MeshArena.freeIndices(indexBlock);
+        blockLayout = null;
+        vertexBlock = null;
+        indexBlock = null;
+    }
+
+    private void uploadVertices(final @NotNull GLBuffer buffer) {
+        final var stride = layout.getStride();
+        final var end    = Math.min(vertexEnd, vertices.size());
+        final var grown  = buffer.reserve((long) stride * vertices.size());
+        final var start  = grown ? 0 : vertexStart;
+        final var stop   = grown ? vertices.size() : end;
+
+        if (start < stop) {
+            final var vb = ByteBuffer
+                    .allocateDirect(stride * (stop - start))
+                    .order(ByteOrder.nativeOrder());
+            for (int i = start; i < stop; ++i)
+                layout.write(vertices.get(i), vb);
+            vb.flip();
+
+            if (!grown && start == 0 && stop == vertices.size())
+                buffer.orphan();
+            buffer.subData((long) start * stride, vb);
+        }
+
+        vertexStart = Integer.MAX_VALUE;
+        vertexEnd = 0;
+    }
+
+    private void uploadIndices(final @NotNull GLBuffer buffer) {
+        final var bytes = indexType == GL_UNSIGNED_SHORT ? Short.BYTES : Integer.BYTES;
+        final var end   = Math.min(indexEnd, indices.size());
+        final var grown = buffer.reserve((long) bytes * indices.size());
+        final var start = grown ? 0 : indexStart;
+        final var stop  = grown ? indices.size() : end;
+
+        if (start < stop) {
+            final var ib = ByteBuffer
+                    .allocateDirect(bytes * (stop - start))
+                    .order(ByteOrder.nativeOrder());
+            for (int i = start; i < stop; ++i)
+                if (indexType == GL_UNSIGNED_SHORT)
+                    ib.putShort((short) indices.get(i).intValue());
+                else
+                    ib.putInt(indices.get(i));
+            ib.flip();
+
+            if (!grown && start == 0 && stop == indices.size())
+                buffer.orphan();
+            buffer.subData((long) start * bytes, ib);
+        }
+
+        indexStart = Integer.MAX_VALUE;
+        indexEnd = 0;
+    }
+
+    public @Nullable GLVertexArray getVertexArray() {
+        if (blockLayout != null)
+            return MeshArena.getVertexArray(blockLayout);
+        return vao;
     }
 
     public void bind() {
-        vbo.bind();
-        ibo.bind();
+        final var vertexArray = getVertexArray();
+        if (vertexArray != null)
+            vertexArray.bind();
     }
 
     public void unbind() {
-        vbo.unbind();
-        ibo.unbind();
+        final var vertexArray = getVertexArray();
+        if (vertexArray != null)
+            vertexArray.unbind();
+    }
+
+    public boolean hasBounds() {
+        return bounds;
+    }
+
+    public @NotNull Vector3fc getMin() {
+        return min;
+    }
+
+    public @NotNull Vector3fc getMax() {
+        return max;
+    }
+
+    public int getIndexType() {
+        return indexType;
+    }
+
+    public int getBaseVertex() {
+        if (vertexBlock == null || blockLayout == null)
+            return 0;
+        return (int) (vertexBlock.getOffset() / blockLayout.getStride());
+    }
+
+    public long getIndexOffset() {
+        if (indexBlock == null)
+            return 0L;
+        return indexBlock.getOffset();
     }
 
     public int count() {
@@ -114,7 +373,7 @@ public class Mesh implements IDestructible {
 
     @Override
     public void destroy() {
-        ibo.destroy();
-        vbo.destroy();
+        releaseBuffers();
+        releaseBlocks();
     }
 }
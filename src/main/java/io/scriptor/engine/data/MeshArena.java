@@ -0,0 +1,121 @@
+package io.scriptor.engine.data;
+
+import io.scriptor.engine.gl.GLArena;
+import io.scriptor.engine.gl.GLState;
+import io.scriptor.engine.gl.GLVertexArray;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import static org.lwjgl.opengl.GL15.GL_ARRAY_BUFFER;
+import static org.lwjgl.opengl.GL15.GL_ELEMENT_ARRAY_BUFFER;
+
+public final class MeshArena {
+
+    private static final long VERTEX_CAPACITY = 4L << 20;
+    private static final long INDEX_CAPACITY = 1L << 20;
+
+    private static final class Pool {
+
+        private final @NotNull GLArena arena;
+        private final @NotNull GLVertexArray vao = new GLVertexArray();
+        private int vertexGeneration = -1;
+        private int indexGeneration = -1;
+
+        private Pool(final @NotNull VertexLayout layout) {
+            this.arena = new GLArena(VERTEX_CAPACITY, layout.getStride());
+        }
+    }
+
+    private static final Map<VertexLayout, Pool> pools = new IdentityHashMap<>();
+    private static @Nullable GLArena indices;
+
+    private MeshArena() {
+    }
+
+    private static @NotNull Pool pool(final @NotNull VertexLayout layout) {
+        return pools.computeIfAbsent(layout, Pool::new);
+    }
+
+    private static @NotNull GLArena indices() {
+        if (indices == null)
+            indices = new GLArena(INDEX_CAPACITY, Integer.BYTES);
+        return indices;
+    }
+
+    public static @NotNull GLArena.Block allocateVertices(final @NotNull VertexLayout layout, final long size) {
+        final var block = pool(layout).arena.allocate(size);
+        refresh();
+        return block;
+    }
+
+    public static @NotNull GLArena.Block allocateIndices(final long size) {
+        final var block = indices().allocate(size);
+        refresh();
+        return block;
+    }
+
+    public static void writeVertices(
+            final @NotNull VertexLayout layout,
+            final @NotNull GLArena.Block block,
+            final @NotNull ByteBuffer data
+    ) {
+        pool(layout).arena.write(block, 0L, data);
+    }
+
+    public static void writeIndices(final @NotNull GLArena.Block block, final @NotNull ByteBuffer data) {
+        indices().write(block, 0L, data);
+    }
+
+    public static void freeVertices(final @NotNull VertexLayout layout, final @NotNull GLArena.Block block) {
+        final var pool = pools.get(layout);
+        if (pool != null)
+            pool.arena.free(block);
+    }
+
+    public static void freeIndices(final @NotNull GLArena.Block block) {
+        if (indices != null)
+            indices.free(block);
+    }
+
+    public static @Nullable GLVertexArray getVertexArray(final @NotNull VertexLayout layout) {
+        final var pool = pools.get(layout);
+        return pool == null ? null : pool.vao;
+    }
+
+    private static void refresh() {
+        final var index = indices();
+        for (final var entry : pools.entrySet()) {
+            final var layout = entry.getKey();
+            final var pool   = entry.getValue();
+            if (pool.vertexGeneration == pool.arena.getGeneration() && pool.indexGeneration == index.getGeneration())
+                continue;
+
+            pool.vao.bind();
+            GLState.bindBuffer(GL_ARRAY_BUFFER, pool.arena.getHandle());
+            layout.apply(pool.vao);
+            GLState.bindBuffer(GL_ELEMENT_ARRAY_BUFFER, index.getHandle());
+            pool.vao.unbind();
+            GLState.bindBuffer(GL_ARRAY_BUFFER, 0);
+
+            pool.vertexGeneration = pool.arena.getGeneration();
+            pool.indexGeneration = index.getGeneration();
+        }
+    }
+
+    public static void destroy() {
+        for (final var pool : pools.values()) {
+            pool.vao.destroy();
+            pool.arena.destroy();
+        }
+        pools.clear();
+
+        if (indices != null) {
+            indices.destroy();
+            indices = null;
+        }
+    }
+}
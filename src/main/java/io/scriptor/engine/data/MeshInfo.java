@@ -39,6 +39,7 @@ public record MeshInfo(@NotNull String name, @NotNull Vertex @NotNull [] vertice
     public @NotNull Ref<Mesh> create() {
         final var ref = Mesh.create(name);
         ref.ok(mesh -> {
+            mesh.setStatic(true);
             mesh.add(indices);
             mesh.add(vertices);
             mesh.apply();
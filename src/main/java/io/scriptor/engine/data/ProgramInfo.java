@@ -3,18 +3,34 @@ package io.scriptor.engine.data;
 import io.scriptor.engine.IYamlNode;
 import org.jetbrains.annotations.NotNull;
 
-public record ProgramInfo(@NotNull String id, @NotNull ShaderInfo @NotNull [] shaders) {
+import java.util.Arrays;
+
+public record ProgramInfo(@NotNull String id, @NotNull String @NotNull [] defines, @NotNull ShaderInfo @NotNull [] shaders) {
 
     public static @NotNull ProgramInfo parse(final @NotNull IYamlNode node) {
         final var id = node
                 .get("id")
                 .as(String.class)
                 .get();
+        final var defines = node
+                .get("defines")
+                .stream()
+                .map(define -> define.as(String.class).get())
+                .toArray(String[]::new);
         final var shaders = node
                 .get("shaders")
                 .stream()
                 .map(ShaderInfo::parse)
                 .toArray(ShaderInfo[]::new);
-        return new ProgramInfo(id, shaders);
+        return new ProgramInfo(id, defines, shaders);
+    }
+
+    public @NotNull String variant(final @NotNull String @NotNull ... defines) {
+        if (defines.length == 0)
+            return id;
+
+        final var sorted = defines.clone();
+        Arrays.sort(sorted);
+        return "%s[%s]".formatted(id, String.join(",", sorted));
     }
 }
@@ -35,6 +35,20 @@ public class Resources {
                 });
     }
 
+    public static <T> @NotNull T load(final @NotNull String name, final @NotNull OpenCallback<T> callback) {
+        final var stream = ClassLoader.getSystemResourceAsStream(name);
+        if (stream == null)
+            throw new IllegalStateException(new FileNotFoundException(name));
+
+        try (stream) {
+            return callback.apply(stream);
+        } catch (final @NotNull RuntimeException e) {
+            throw e;
+        } catch (final @NotNull Exception e) {
+            throw new IllegalStateException(name, e);
+        }
+    }
+
     public static <T> @NotNull Result<T> open(final @NotNull String name, final @NotNull OpenCallback<T> callback) {
         return Result
                 .of(ClassLoader.getSystemResourceAsStream(name), new FileNotFoundException(name))
@@ -10,11 +10,12 @@ import static org.lwjgl.opengl.GL40.GL_TESS_CONTROL_SHADER;
 import static org.lwjgl.opengl.GL40.GL_TESS_EVALUATION_SHADER;
 import static org.lwjgl.opengl.GL43.GL_COMPUTE_SHADER;
 
-public record ShaderInfo(@NotNull String path, int type) {
+public record ShaderInfo(@NotNull String path, int type, @NotNull String @NotNull [] defines) {
 
     public static @NotNull ShaderInfo parse(final @NotNull IYamlNode yaml) {
-        final var path = yaml.get("path").as(String.class).get();
-        final var type = yaml.get("type").as(String.class).get();
+        final var path    = yaml.get("path").as(String.class).get();
+        final var type    = yaml.get("type").as(String.class).get();
+        final var defines = yaml.get("defines").stream().map(define -> define.as(String.class).get()).toArray(String[]::new);
         return new ShaderInfo(path, switch (type) {
             case "vertex" -> GL_VERTEX_SHADER;
             case "fragment" -> GL_FRAGMENT_SHADER;
@@ -23,6 +24,6 @@ public record ShaderInfo(@NotNull String path, int type) {
             case "tess-control" -> GL_TESS_CONTROL_SHADER;
             case "tess-evaluation" -> GL_TESS_EVALUATION_SHADER;
             default -> throw new IllegalStateException(type);
-        });
+        }, defines);
     }
 }
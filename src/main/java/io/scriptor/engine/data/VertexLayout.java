@@ -0,0 +1,154 @@
+package io.scriptor.engine.data;
+
+import io.scriptor.engine.gl.GLVertexArray;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.GL30.GL_HALF_FLOAT;
+import static org.lwjgl.opengl.GL33.GL_INT_2_10_10_10_REV;
+
+public class VertexLayout {
+
+    public enum Semantic {
+        POSITION,
+        TEXTURE,
+        NORMAL,
+        COLOR,
+    }
+
+    public record Attribute(
+            @NotNull Semantic semantic,
+            int location,
+            int size,
+            int type,
+            boolean normalized,
+            int offset
+    ) {
+    }
+
+    public static final @NotNull VertexLayout DEFAULT = new VertexLayout()
+            .attribute(Semantic.POSITION, 0, 3, GL_FLOAT, false)
+            .attribute(Semantic.TEXTURE, 1, 2, GL_FLOAT, false)
+            .attribute(Semantic.NORMAL, 2, 3, GL_FLOAT, false)
+            .attribute(Semantic.COLOR, 3, 4, GL_FLOAT, false);
+
+    public static final @NotNull VertexLayout PACKED = new VertexLayout()
+            .attribute(Semantic.POSITION, 0, 3, GL_HALF_FLOAT, false)
+            .attribute(Semantic.NORMAL, 2, 4, GL_INT_2_10_10_10_REV, true)
+            .attribute(Semantic.COLOR, 3, 4, GL_UNSIGNED_BYTE, true);
+
+    private static int sizeOf(final int size, final int type) {
+        final var bytes = switch (type) {
+            case GL_FLOAT -> size * Float.BYTES;
+            case GL_HALF_FLOAT, GL_SHORT, GL_UNSIGNED_SHORT -> size * Short.BYTES;
+            case GL_BYTE, GL_UNSIGNED_BYTE -> size;
+            case GL_INT_2_10_10_10_REV -> Integer.BYTES;
+            default -> throw new IllegalArgumentException("vertex attribute type %d".formatted(type));
+        };
+        return (bytes + 3) & ~3;
+    }
+
+    private final List<Attribute> attributes = new ArrayList<>();
+    private int stride;
+
+    public @NotNull VertexLayout attribute(
+            final @NotNull Semantic semantic,
+            final int location,
+            final int size,
+            final int type,
+            final boolean normalized
+    ) {
+        attributes.add(new Attribute(semantic, location, size, type, normalized, stride));
+        stride += sizeOf(size, type);
+        return this;
+    }
+
+    public int getStride() {
+        return stride;
+    }
+
+    public @NotNull List<Attribute> getAttributes() {
+        return attributes;
+    }
+
+    public void apply(final @NotNull GLVertexArray vao) {
+        for (final var attribute : attributes)
+            vao.attribute(
+                    attribute.location(),
+                    attribute.size(),
+                    attribute.type(),
+                    attribute.normalized(),
+                    stride,
+                    attribute.offset());
+    }
+
+    public void write(final @NotNull Vertex vertex, final @NotNull ByteBuffer buffer) {
+        for (final var attribute : attributes) {
+            final var position = vertex.position();
+            final var texture  = vertex.texture();
+            final var normal   = vertex.normal();
+            final var color    = vertex.color();
+            switch (attribute.semantic()) {
+                case POSITION -> put(buffer, attribute, position.x(), position.y(), position.z(), 1.0f);
+                case TEXTURE -> put(buffer, attribute, texture.x(), texture.y(), 0.0f, 0.0f);
+                case NORMAL -> put(buffer, attribute, normal.x(), normal.y(), normal.z(), 0.0f);
+                case COLOR -> put(buffer, attribute, color.x(), color.y(), color.z(), color.w());
+            }
+        }
+    }
+
+    private static void put(
+            final @NotNull ByteBuffer buffer,
+            final @NotNull Attribute attribute,
+            final float x,
+            final float y,
+            final float z,
+            final float w
+    ) {
+        final var start = buffer.position();
+
+        if (attribute.type() == GL_INT_2_10_10_10_REV) {
+            buffer.putInt(pack(x, 10)
+                          | pack(y, 10) << 10
+                          | pack(z, 10) << 20
+                          | pack(w, 2) << 30);
+            return;
+        }
+
+        for (int i = 0; i < attribute.size(); ++i) {
+            final var value = switch (i) {
+                case 0 -> x;
+                case 1 -> y;
+                case 2 -> z;
+                default -> w;
+            };
+            final var normalized = attribute.normalized();
+            switch (attribute.type()) {
+                case GL_FLOAT -> buffer.putFloat(value);
+                case GL_HALF_FLOAT -> buffer.putShort(Float.floatToFloat16(value));
+                case GL_SHORT -> buffer.putShort((short) Math.round(normalized ? clamp(value, -1.0f) * 32767.0f : value));
+                case GL_UNSIGNED_SHORT -> buffer.putShort((short) Math.round(normalized ? clamp(value, 0.0f) * 65535.0f : value));
+                case GL_BYTE -> buffer.put((byte) Math.round(normalized ? clamp(value, -1.0f) * 127.0f : value));
+                case GL_UNSIGNED_BYTE -> buffer.put((byte) Math.round(normalized ? clamp(value, 0.0f) * 255.0f : value));
+                default -> throw new IllegalArgumentException("vertex attribute type %d".formatted(attribute.type()));
+            }
+        }
+
+        final var end = start + sizeOf(attribute.size(), attribute.type());
+        while (buffer.position() < end)
+            buffer.put((byte) 0);
+    }
+
+    private static float clamp(final float value, final float min) {
+        return Math.max(min, Math.min(1.0f, value));
+    }
+
+    private static int pack(final float value, final int bits) {
+        final var max = (1 << (bits - 1)) - 1;
+        return Math.round(clamp(value, -1.0f) * max) & ((1 << bits) - 1);
+    }
+}
@@ -0,0 +1,171 @@
+package io.scriptor.engine.gl;
+
+import io.scriptor.engine.IDestructible;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+import static org.lwjgl.opengl.GL44.GL_DYNAMIC_STORAGE_BIT;
+import static org.lwjgl.opengl.GL45.*;
+
+public class GLArena implements IDestructible {
+
+    public static final class Block {
+
+        private long offset;
+        private final long size;
+
+        private Block(final long offset, final long size) {
+            this.offset = offset;
+            this.size = size;
+        }
+
+        public long getOffset() {
+            return offset;
+        }
+
+        public long getSize() {
+            return size;
+        }
+    }
+
+    private static int create(final long capacity) {
+        final var handle = glCreateBuffers();
+        glNamedBufferStorage(handle, capacity, GL_DYNAMIC_STORAGE_BIT);
+        return handle;
+    }
+
+    private final long alignment;
+    private int handle;
+    private long capacity;
+    private long used;
+    private int generation;
+
+    private final List<Block> blocks = new ArrayList<>();
+    private final TreeMap<Long, Long> free = new TreeMap<>();
+
+    public GLArena(final long capacity, final long alignment) {
+        this.alignment = alignment;
+        this.capacity = align(capacity);
+        this.handle = create(this.capacity);
+        this.free.put(0L, this.capacity);
+    }
+
+    private long align(final long size) {
+        return (size + alignment - 1) / alignment * alignment;
+    }
+
+    public int getHandle() {
+        return handle;
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    public long getUsed() {
+        return used;
+    }
+
+    public int getGeneration() {
+        return generation;
+    }
+
+    public @NotNull Block allocate(final long size) {
+        final var aligned = Math.max(alignment, align(size));
+
+        var block = fit(aligned);
+        if (block != null)
+            return block;
+
+        compact(capacity - used >= aligned ? capacity : Math.max(capacity * 2, used + aligned));
+        block = fit(aligned);
+        if (block == null)
+            throw new IllegalStateException("arena cannot fit %d bytes".formatted(aligned));
+        return block;
+    }
+
+    private Block fit(final long size) {
+        for (final var entry : free.entrySet()) {
+            final long offset    = entry.getKey();
+            final long available = entry.getValue();
+            if (available < size)
+                continue;
+
+            free.remove(offset);
+            if (available > size)
+                free.put(offset + size, available - size);
+
+            final var block = new Block(offset, size);
+            int index = blocks.size();
+            while (index > 0 && blocks.get(index - 1).offset > offset)
+                --index;
+            blocks.add(index, block);
+            used += size;
+            return block;
+        }
+        return null;
+    }
+
+    public void free(final @NotNull Block block) {
+        if (!blocks.remove(block))
+            return;
+        used -= block.size;
+
+        var offset = block.offset;
+        var size   = block.size;
+
+        final var before = free.floorEntry(offset);
+        if (before != null && before.getKey() + before.getValue() == offset) {
+            offset = before.getKey();
+            size += before.getValue();
+            free.remove(before.getKey());
+        }
+
+        final var after = free.get(offset + size);
+        if (after != null) {
+            free.remove(offset + size);
+            size += after;
+        }
+
+        free.put(offset, size);
+    }
+
+    public void write(final @NotNull Block block, final long offset, final @NotNull ByteBuffer data) {
+        if (offset + data.remaining() > block.size)
+            throw new IndexOutOfBoundsException("write of %d bytes at %d exceeds block of %d bytes"
+                                                        .formatted(data.remaining(), offset, block.size));
+        glNamedBufferSubData(handle, block.offset + offset, data);
+    }
+
+    public void compact(final long capacity) {
+        final var aligned = align(Math.max(capacity, used));
+        final var next    = create(aligned);
+
+        long offset = 0L;
+        for (final var block : blocks) {
+            glCopyNamedBufferSubData(handle, next, block.offset, offset, block.size);
+            block.offset = offset;
+            offset += block.size;
+        }
+
+        GLState.deleteBuffer(handle);
+        this.handle = next;
+        this.capacity = aligned;
+        ++generation;
+
+        free.clear();
+        if (offset < aligned)
+            free.put(offset, aligned - offset);
+    }
+
+    @Override
+    public void destroy() {
+        blocks.clear();
+        free.clear();
+        GLState.deleteBuffer(handle);
+    }
+}
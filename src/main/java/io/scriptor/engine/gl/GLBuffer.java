@@ -12,6 +12,7 @@ public class GLBuffer implements IDestructible {
     private final int handle;
     private final int target;
     private final int usage;
+    private long capacity;
 
     public GLBuffer(final int target, final int usage) {
         this.handle = glGenBuffers();
@@ -20,21 +21,54 @@ public class GLBuffer implements IDestructible {
     }
 
     public GLBuffer bind() {
-        glBindBuffer(target, handle);
+        GLState.bindBuffer(target, handle);
         return this;
     }
 
     public GLBuffer data(final @NotNull ByteBuffer data) {
         glBufferData(target, data, usage);
+        capacity = data.remaining();
+        return this;
+    }
+
+    public GLBuffer data(final long size) {
+        glBufferData(target, size, usage);
+        capacity = size;
+        return this;
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    public boolean reserve(final long size) {
+        if (size <= capacity)
+            return false;
+        data(Math.max(size, capacity * 2));
+        return true;
+    }
+
+    public GLBuffer orphan() {
+        glBufferData(target, capacity, usage);
+        return this;
+    }
+
+    public GLBuffer subData(final long offset, final @NotNull ByteBuffer data) {
+        glBufferSubData(target, offset, data);
+        return this;
+    }
+
+    public GLBuffer bindBase(final int index) {
+        GLState.bindBufferBase(target, index, handle);
         return this;
     }
 
     public void unbind() {
-        glBindBuffer(target, 0);
+        GLState.bindBuffer(target, 0);
     }
 
     @Override
     public void destroy() {
-        glDeleteBuffers(handle);
+        GLState.deleteBuffer(handle);
     }
 }
@@ -0,0 +1,32 @@
+package io.scriptor.engine.gl;
+
+import io.scriptor.engine.IDestructible;
+
+import static org.lwjgl.opengl.GL32.*;
+
+public class GLFence implements IDestructible {
+
+    private final long handle;
+
+    public GLFence() {
+        this.handle = glFenceSync(GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+    }
+
+    public boolean await(final long timeout) {
+        return switch (glClientWaitSync(handle, GL_SYNC_FLUSH_COMMANDS_BIT, timeout)) {
+            case GL_ALREADY_SIGNALED, GL_CONDITION_SATISFIED -> true;
+            case GL_TIMEOUT_EXPIRED -> false;
+            default -> throw new IllegalStateException("fence wait failed (error 0x%x)".formatted(glGetError()));
+        };
+    }
+
+    public void await() {
+        while (!await(1_000_000_000L))
+            Thread.onSpinWait();
+    }
+
+    @Override
+    public void destroy() {
+        glDeleteSync(handle);
+    }
+}
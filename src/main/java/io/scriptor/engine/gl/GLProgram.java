@@ -5,30 +5,95 @@ import io.scriptor.engine.IYamlNode;
 import io.scriptor.engine.Ref;
 import io.scriptor.engine.data.IUniform;
 import io.scriptor.engine.data.ProgramInfo;
-import io.scriptor.engine.data.ShaderInfo;
 import org.jetbrains.annotations.NotNull;
+import org.lwjgl.system.MemoryStack;
 
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static io.scriptor.engine.data.Resources.open;
 import static org.lwjgl.opengl.GL20.*;
 
 public class GLProgram implements IDestructible {
 
+    private static final Map<String, ProgramInfo> infos = new HashMap<>();
+
     public static @NotNull Ref<GLProgram> get(final @NotNull String id) {
         return Ref.get(GLProgram.class, id);
     }
 
     public static @NotNull Ref<GLProgram> create(final @NotNull InputStream stream) {
         final var info = ProgramInfo.parse(IYamlNode.load(stream));
-        return get(info.id()).set(new GLProgram(info.shaders()));
+        infos.put(info.id(), info);
+        return get(info.id()).set(new GLProgram(info));
+    }
+
+    public static @NotNull Ref<GLProgram> variant(final @NotNull String id, final @NotNull String @NotNull ... defines) {
+        final var info = infos.get(id);
+        if (info == null)
+            throw new IllegalStateException("no program info for '%s'".formatted(id));
+
+        final var ref = get(info.variant(defines));
+        if (!ref.ok())
+            ref.set(new GLProgram(info, defines));
+        return ref;
     }
 
     private static @NotNull String readSource(final @NotNull String filename) {
         return open(filename, stream -> {
             final var bytes = stream.readAllBytes();
             return new String(bytes);
-        }).or("");
+        }).or("")
+          .lines()
+          .map(GLProgram::include)
+          .collect(Collectors.joining("\n", "", "\n"));
+    }
+
+    private static @NotNull String include(final @NotNull String line) {
+        final var trimmed = line.trim();
+        if (!trimmed.startsWith("#include"))
+            return line;
+
+        final var path = trimmed.substring("#include".length()).trim();
+        if (path.length() < 2 || path.charAt(0) != '"' || path.charAt(path.length() - 1) != '"')
+            throw new IllegalStateException("malformed include: %s".formatted(line));
+
+        return readSource(path.substring(1, path.length() - 1));
+    }
+
+    private static @NotNull String define(final @NotNull String source, final @NotNull String @NotNull ... defines) {
+        if (defines.length == 0)
+            return source;
+
+        final var block = Arrays
+                .stream(defines)
+                .map(define -> {
+                    final var split = define.indexOf('=');
+                    if (split < 0)
+                        return "#define %s".formatted(define);
+                    return "#define %s %s".formatted(define.substring(0, split), define.substring(split + 1));
+                })
+                .collect(Collectors.joining("\n", "", "\n"));
+
+        final var version = source.indexOf("#version");
+        final var end     = version < 0 ? 0 : source.indexOf('\n', version) + 1;
+        return source.substring(0, end) + block + source.substring(end);
+    }
+
+    private static @NotNull String define(
+            final @NotNull String source,
+            final @NotNull String @NotNull [] program,
+            final @NotNull String @NotNull [] shader,
+            final @NotNull String @NotNull [] variant
+    ) {
+        final var defines = new String[program.length + shader.length + variant.length];
+        System.arraycopy(program, 0, defines, 0, program.length);
+        System.arraycopy(shader, 0, defines, program.length, shader.length);
+        System.arraycopy(variant, 0, defines, program.length + shader.length, variant.length);
+        return define(source, defines);
     }
 
     private static void addShader(final int program, final int shaderType, final @NotNull String source) {
@@ -49,13 +114,22 @@ public class GLProgram implements IDestructible {
         glDeleteShader(shader);
     }
 
+    public static final int OWNER_NONE = Integer.MIN_VALUE;
+
     private final int handle;
 
-    private GLProgram(final @NotNull ShaderInfo @NotNull ... shaders) {
+    private final Map<String, Integer> slots = new HashMap<>();
+    private int[] locations = new int[0];
+    private int[] owners = new int[0];
+    private long[] versions = new long[0];
+
+    private GLProgram(final @NotNull ProgramInfo info, final @NotNull String @NotNull ... defines) {
         handle = glCreateProgram();
 
-        for (final var shader : shaders)
-            addShader(handle, shader.type(), readSource(shader.path()));
+        for (final var shader : info.shaders()) {
+            final var source = readSource(shader.path());
+            addShader(handle, shader.type(), define(source, info.defines(), shader.defines(), defines));
+        }
 
         final var pStatus = new int[1];
 
@@ -76,27 +150,84 @@ public class GLProgram implements IDestructible {
             final var message = glGetProgramInfoLog(handle);
             System.err.println(message);
             glDeleteProgram(handle);
+            return;
+        }
+
+        reflect();
+    }
+
+    private void reflect() {
+        final var count = glGetProgrami(handle, GL_ACTIVE_UNIFORMS);
+
+        locations = new int[count];
+        owners = new int[count];
+        versions = new long[count];
+
+        int slot = 0;
+        try (final var stack = MemoryStack.stackPush()) {
+            final var pSize = stack.mallocInt(1);
+            final var pType = stack.mallocInt(1);
+            for (int i = 0; i < count; ++i) {
+                var name = glGetActiveUniform(handle, i, pSize, pType);
+                if (name.endsWith("[0]"))
+                    name = name.substring(0, name.length() - 3);
+
+                final var location = glGetUniformLocation(handle, name);
+                if (location < 0)
+                    continue;
+
+                slots.put(name, slot);
+                locations[slot] = location;
+                owners[slot] = OWNER_NONE;
+                ++slot;
+            }
         }
+
+        locations = Arrays.copyOf(locations, slot);
+        owners = Arrays.copyOf(owners, slot);
+        versions = Arrays.copyOf(versions, slot);
+    }
+
+    public int getSlotCount() {
+        return locations.length;
+    }
+
+    public int getSlot(final @NotNull String name) {
+        return slots.getOrDefault(name, -1);
     }
 
     public @NotNull GLProgram bind() {
-        glUseProgram(handle);
+        GLState.useProgram(handle);
         return this;
     }
 
     public @NotNull GLProgram uniform(final @NotNull String name, final @NotNull IUniform callback) {
-        final var location = glGetUniformLocation(handle, name);
-        if (location >= 0)
-            callback.apply(handle, location);
+        final var slot = getSlot(name);
+        if (slot >= 0) {
+            owners[slot] = OWNER_NONE;
+            callback.apply(handle, locations[slot]);
+        }
+        return this;
+    }
+
+    public @NotNull GLProgram uniform(final int slot, final int owner, final @NotNull IUniform value) {
+        if (slot < 0)
+            return this;
+        if (owners[slot] == owner && versions[slot] == value.getVersion())
+            return this;
+
+        owners[slot] = owner;
+        versions[slot] = value.getVersion();
+        value.apply(handle, locations[slot]);
         return this;
     }
 
     public void unbind() {
-        glUseProgram(0);
+        GLState.useProgram(0);
     }
 
     @Override
     public void destroy() {
-        glDeleteProgram(handle);
+        GLState.deleteProgram(handle);
     }
 }
@@ -0,0 +1,103 @@
+package io.scriptor.engine.gl;
+
+import io.scriptor.engine.IDestructible;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+import static org.lwjgl.opengl.GL11.glGetInteger;
+import static org.lwjgl.opengl.GL15.glGenBuffers;
+import static org.lwjgl.opengl.GL30.GL_MAP_WRITE_BIT;
+import static org.lwjgl.opengl.GL30.glMapBufferRange;
+import static org.lwjgl.opengl.GL31.GL_UNIFORM_BUFFER;
+import static org.lwjgl.opengl.GL31.GL_UNIFORM_BUFFER_OFFSET_ALIGNMENT;
+import static org.lwjgl.opengl.GL43.GL_SHADER_STORAGE_BUFFER;
+import static org.lwjgl.opengl.GL43.GL_SHADER_STORAGE_BUFFER_OFFSET_ALIGNMENT;
+import static org.lwjgl.opengl.GL44.*;
+
+public class GLRingBuffer implements IDestructible {
+
+    private static final int FLAGS = GL_MAP_WRITE_BIT | GL_MAP_PERSISTENT_BIT | GL_MAP_COHERENT_BIT;
+
+    private static int alignment(final int target) {
+        return switch (target) {
+            case GL_UNIFORM_BUFFER -> glGetInteger(GL_UNIFORM_BUFFER_OFFSET_ALIGNMENT);
+            case GL_SHADER_STORAGE_BUFFER -> glGetInteger(GL_SHADER_STORAGE_BUFFER_OFFSET_ALIGNMENT);
+            default -> 256;
+        };
+    }
+
+    private final int handle;
+    private final int target;
+    private final int regionSize;
+    private final @NotNull ByteBuffer @NotNull [] regions;
+    private final @Nullable GLFence @NotNull [] fences;
+
+    private int current = -1;
+    private boolean pending;
+
+    public GLRingBuffer(final int target, final int size, final int count) {
+        final var align = Math.max(1, alignment(target));
+
+        this.handle = glGenBuffers();
+        this.target = target;
+        this.regionSize = (size + align - 1) / align * align;
+        this.regions = new ByteBuffer[count];
+        this.fences = new GLFence[count];
+
+        final var total = (long) regionSize * count;
+
+        GLState.bindBuffer(target, handle);
+        glBufferStorage(target, total, FLAGS);
+        final var mapped = Objects.requireNonNull(glMapBufferRange(target, 0, total, FLAGS));
+        GLState.bindBuffer(target, 0);
+
+        for (int i = 0; i < count; ++i)
+            regions[i] = mapped.slice(i * regionSize, regionSize).order(ByteOrder.nativeOrder());
+    }
+
+    public int getRegionSize() {
+        return regionSize;
+    }
+
+    public long getOffset() {
+        return (long) current * regionSize;
+    }
+
+    public @NotNull ByteBuffer begin() {
+        current = (current + 1) % regions.length;
+        pending = true;
+
+        final var fence = fences[current];
+        if (fence != null) {
+            fence.await();
+            fence.destroy();
+            fences[current] = null;
+        }
+
+        return regions[current].clear();
+    }
+
+    public @NotNull GLRingBuffer bindRange(final int index, final long size) {
+        GLState.bindBufferRange(target, index, handle, getOffset(), size);
+        return this;
+    }
+
+    public void end() {
+        if (!pending)
+            return;
+        pending = false;
+        fences[current] = new GLFence();
+    }
+
+    @Override
+    public void destroy() {
+        for (final var fence : fences)
+            if (fence != null)
+                fence.destroy();
+        GLState.deleteBuffer(handle);
+    }
+}
@@ -0,0 +1,259 @@
+package io.scriptor.engine.gl;
+
+import java.util.Arrays;
+
+import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.GL13.GL_MULTISAMPLE;
+import static org.lwjgl.opengl.GL15.*;
+import static org.lwjgl.opengl.GL20.glDeleteProgram;
+import static org.lwjgl.opengl.GL20.glUseProgram;
+import static org.lwjgl.opengl.GL30.*;
+import static org.lwjgl.opengl.GL31.*;
+import static org.lwjgl.opengl.GL40.GL_DRAW_INDIRECT_BUFFER;
+import static org.lwjgl.opengl.GL43.GL_SHADER_STORAGE_BUFFER;
+
+public final class GLState {
+
+    private static final int UNKNOWN = -1;
+    private static final int BASE_BINDINGS = 16;
+
+    private static final int[] BUFFER_TARGETS = {
+            GL_ARRAY_BUFFER,
+            GL_ELEMENT_ARRAY_BUFFER,
+            GL_UNIFORM_BUFFER,
+            GL_SHADER_STORAGE_BUFFER,
+            GL_DRAW_INDIRECT_BUFFER,
+            GL_COPY_READ_BUFFER,
+            GL_COPY_WRITE_BUFFER,
+    };
+
+    private static final int[] CAPABILITIES = {
+            GL_DEPTH_TEST,
+            GL_CULL_FACE,
+            GL_BLEND,
+            GL_MULTISAMPLE,
+    };
+
+    private static int program;
+    private static int vertexArray;
+    private static final int[] buffers = new int[BUFFER_TARGETS.length];
+    private static final int[][] bases = new int[BUFFER_TARGETS.length][BASE_BINDINGS];
+    private static final int[] enabled = new int[CAPABILITIES.length];
+
+    private static int blendSource;
+    private static int blendDestination;
+    private static int depthMask;
+
+    private static boolean clearKnown;
+    private static final float[] clearColor = new float[4];
+
+    private static boolean viewportKnown;
+    private static final int[] viewport = new int[4];
+
+    private static long issued;
+    private static long skipped;
+
+    static {
+        invalidate();
+    }
+
+    private GLState() {
+    }
+
+    public static void invalidate() {
+        program = UNKNOWN;
+        vertexArray = UNKNOWN;
+        Arrays.fill(buffers, UNKNOWN);
+        for (final var base : bases)
+            Arrays.fill(base, UNKNOWN);
+        Arrays.fill(enabled, UNKNOWN);
+        blendSource = UNKNOWN;
+        blendDestination = UNKNOWN;
+        depthMask = UNKNOWN;
+        clearKnown = false;
+        viewportKnown = false;
+    }
+
+    public static long getIssued() {
+        return issued;
+    }
+
+    public static long getSkipped() {
+        return skipped;
+    }
+
+    public static void resetCounters() {
+        issued = 0L;
+        skipped = 0L;
+    }
+
+    private static boolean skip(final boolean same) {
+        if (same) {
+            ++skipped;
+            return true;
+        }
+        ++issued;
+        return false;
+    }
+
+    private static int bufferSlot(final int target) {
+        for (int i = 0; i < BUFFER_TARGETS.length; ++i)
+            if (BUFFER_TARGETS[i] == target)
+                return i;
+        return -1;
+    }
+
+    private static int capabilitySlot(final int capability) {
+        for (int i = 0; i < CAPABILITIES.length; ++i)
+            if (CAPABILITIES[i] == capability)
+                return i;
+        return -1;
+    }
+
+    public static void useProgram(final int handle) {
+        if (skip(program == handle))
+            return;
+        program = handle;
+        glUseProgram(handle);
+    }
+
+    public static void deleteProgram(final int handle) {
+        if (program == handle)
+            program = UNKNOWN;
+        glDeleteProgram(handle);
+    }
+
+    public static void bindVertexArray(final int handle) {
+        if (skip(vertexArray == handle))
+            return;
+        vertexArray = handle;
+        // the element array binding belongs to the vertex array
+        buffers[bufferSlot(GL_ELEMENT_ARRAY_BUFFER)] = UNKNOWN;
+        glBindVertexArray(handle);
+    }
+
+    public static void deleteVertexArray(final int handle) {
+        if (vertexArray == handle) {
+            vertexArray = 0;
+            buffers[bufferSlot(GL_ELEMENT_ARRAY_BUFFER)] = UNKNOWN;
+        }
+        glDeleteVertexArrays(handle);
+    }
+
+    public static void bindBuffer(final int target, final int handle) {
+        final var slot = bufferSlot(target);
+        if (skip(slot >= 0 && buffers[slot] == handle))
+            return;
+        if (slot >= 0)
+            buffers[slot] = handle;
+        glBindBuffer(target, handle);
+    }
+
+    public static void bindBufferBase(final int target, final int index, final int handle) {
+        final var slot = bufferSlot(target);
+        final var known = slot >= 0 && index < BASE_BINDINGS;
+        if (skip(known && bases[slot][index] == handle && buffers[slot] == handle))
+            return;
+        if (known)
+            bases[slot][index] = handle;
+        if (slot >= 0)
+            buffers[slot] = handle;
+        glBindBufferBase(target, index, handle);
+    }
+
+    public static void bindBufferRange(
+            final int target,
+            final int index,
+            final int handle,
+            final long offset,
+            final long size
+    ) {
+        final var slot = bufferSlot(target);
+        if (slot >= 0) {
+            // a range is never the whole buffer, so the base binding becomes unknown
+            if (index < BASE_BINDINGS)
+                bases[slot][index] = UNKNOWN;
+            buffers[slot] = handle;
+        }
+        ++issued;
+        glBindBufferRange(target, index, handle, offset, size);
+    }
+
+    public static void deleteBuffer(final int handle) {
+        for (int i = 0; i < buffers.length; ++i) {
+            if (buffers[i] == handle)
+                buffers[i] = 0;
+            for (int j = 0; j < BASE_BINDINGS; ++j)
+                if (bases[i][j] == handle)
+                    bases[i][j] = 0;
+        }
+        glDeleteBuffers(handle);
+    }
+
+    public static void setEnabled(final int capability, final boolean enable) {
+        final var slot  = capabilitySlot(capability);
+        final var value = enable ? GL_TRUE : GL_FALSE;
+        if (skip(slot >= 0 && enabled[slot] == value))
+            return;
+        if (slot >= 0)
+            enabled[slot] = value;
+        if (enable)
+            glEnable(capability);
+        else
+            glDisable(capability);
+    }
+
+    public static void enable(final int capability) {
+        setEnabled(capability, true);
+    }
+
+    public static void disable(final int capability) {
+        setEnabled(capability, false);
+    }
+
+    public static void blendFunc(final int source, final int destination) {
+        if (skip(blendSource == source && blendDestination == destination))
+            return;
+        blendSource = source;
+        blendDestination = destination;
+        glBlendFunc(source, destination);
+    }
+
+    public static void depthMask(final boolean flag) {
+        final var value = flag ? GL_TRUE : GL_FALSE;
+        if (skip(depthMask == value))
+            return;
+        depthMask = value;
+        glDepthMask(flag);
+    }
+
+    public static void clearColor(final float red, final float green, final float blue, final float alpha) {
+        if (skip(clearKnown
+                 && clearColor[0] == red
+                 && clearColor[1] == green
+                 && clearColor[2] == blue
+                 && clearColor[3] == alpha))
+            return;
+        clearKnown = true;
+        clearColor[0] = red;
+        clearColor[1] = green;
+        clearColor[2] = blue;
+        clearColor[3] = alpha;
+        glClearColor(red, green, blue, alpha);
+    }
+
+    public static void viewport(final int x, final int y, final int width, final int height) {
+        if (skip(viewportKnown
+                 && viewport[0] == x
+                 && viewport[1] == y
+                 && viewport[2] == width
+                 && viewport[3] == height))
+            return;
+        viewportKnown = true;
+        viewport[0] = x;
+        viewport[1] = y;
+        viewport[2] = width;
+        viewport[3] = height;
+        glViewport(x, y, width, height);
+    }
+}
@@ -0,0 +1,41 @@
+package io.scriptor.engine.gl;
+
+import io.scriptor.engine.IDestructible;
+
+import static org.lwjgl.opengl.GL30.*;
+
+public class GLVertexArray implements IDestructible {
+
+    private final int handle;
+
+    public GLVertexArray() {
+        this.handle = glGenVertexArrays();
+    }
+
+    public GLVertexArray bind() {
+        GLState.bindVertexArray(handle);
+        return this;
+    }
+
+    public GLVertexArray attribute(
+            final int location,
+            final int size,
+            final int type,
+            final boolean normalized,
+            final int stride,
+            final long offset
+    ) {
+        glEnableVertexAttribArray(location);
+        glVertexAttribPointer(location, size, type, normalized, stride, offset);
+        return this;
+    }
+
+    public void unbind() {
+        GLState.bindVertexArray(0);
+    }
+
+    @Override
+    public void destroy() {
+        GLState.deleteVertexArray(handle);
+    }
+}
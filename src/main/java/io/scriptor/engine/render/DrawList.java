@@ -0,0 +1,119 @@
+package io.scriptor.engine.render;
+
+import io.scriptor.engine.data.Material;
+import io.scriptor.engine.data.Mesh;
+import org.jetbrains.annotations.NotNull;
+import org.joml.FrustumIntersection;
+import org.joml.Matrix4f;
+import org.joml.Matrix4fc;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+import org.joml.Vector4f;
+import org.joml.Vector4fc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class DrawList {
+
+    public static class Entry {
+
+        private Material material;
+        private Mesh mesh;
+        private long key;
+        private final Matrix4f transform = new Matrix4f();
+        private final Matrix4f normal = new Matrix4f();
+        private final Vector4f params = new Vector4f();
+
+        public @NotNull Material getMaterial() {
+            return material;
+        }
+
+        public @NotNull Mesh getMesh() {
+            return mesh;
+        }
+
+        public long getKey() {
+            return key;
+        }
+
+        public @NotNull Matrix4fc getTransform() {
+            return transform;
+        }
+
+        public @NotNull Matrix4fc getNormal() {
+            return normal;
+        }
+
+        public @NotNull Vector4fc getParams() {
+            return params;
+        }
+    }
+
+    private final List<Entry> entries = new ArrayList<>();
+    private int count;
+    private int culled;
+
+    private final Matrix4f view = new Matrix4f();
+    private final Matrix4f viewProjection = new Matrix4f();
+    private final FrustumIntersection frustum = new FrustumIntersection();
+    private final Vector3f min = new Vector3f();
+    private final Vector3f max = new Vector3f();
+
+    private final Matrix4f scratch = new Matrix4f();
+    private final Quaternionf rotationScratch = new Quaternionf();
+
+    public void begin(final @NotNull Matrix4fc view, final @NotNull Matrix4fc projection) {
+        this.count = 0;
+        this.culled = 0;
+        this.view.set(view);
+        this.frustum.set(projection.mul(view, viewProjection));
+    }
+
+    public @NotNull Matrix4f getScratch() {
+        return scratch;
+    }
+
+    public @NotNull Quaternionf getRotationScratch() {
+        return rotationScratch;
+    }
+
+    public void add(
+            final @NotNull Material material,
+            final @NotNull Mesh mesh,
+            final @NotNull Matrix4fc transform,
+            final @NotNull Matrix4fc normal,
+            final @NotNull Vector4fc params
+    ) {
+        if (mesh.hasBounds()) {
+            transform.transformAab(mesh.getMin(), mesh.getMax(), min, max);
+            if (!frustum.testAab(min, max)) {
+                ++culled;
+                return;
+            }
+        }
+
+        if (count == entries.size())
+            entries.add(new Entry());
+
+        final var entry = entries.get(count++);
+        entry.material = material;
+        entry.mesh = mesh;
+        entry.key = RenderQueue.key(material, mesh, transform, view);
+        entry.transform.set(transform);
+        entry.normal.set(normal);
+        entry.params.set(params);
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public int getCulled() {
+        return culled;
+    }
+
+    public @NotNull Entry get(final int index) {
+        return entries.get(index);
+    }
+}
@@ -0,0 +1,220 @@
+package io.scriptor.engine.render;
+
+import io.scriptor.engine.data.Material;
+import io.scriptor.engine.data.Mesh;
+import io.scriptor.engine.gl.GLVertexArray;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix4f;
+import org.joml.Matrix4fc;
+import org.joml.Vector3f;
+import org.joml.Vector3fc;
+import org.joml.Vector4f;
+import org.joml.Vector4fc;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class Frame {
+
+    public static class Draw {
+
+        private Material material;
+        private Material.Snapshot uniforms;
+        private Mesh mesh;
+        private int count;
+        private int indexType;
+        private long indexOffset;
+        private int baseVertex;
+        private @Nullable GLVertexArray vertexArray;
+        private final Matrix4f transform = new Matrix4f();
+        private final Matrix4f normal = new Matrix4f();
+        private final Vector4f params = new Vector4f();
+
+        public @NotNull Material getMaterial() {
+            return material;
+        }
+
+        public @NotNull Material.Snapshot getUniforms() {
+            return uniforms;
+        }
+
+        public @NotNull Mesh getMesh() {
+            return mesh;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public int getIndexType() {
+            return indexType;
+        }
+
+        public long getIndexOffset() {
+            return indexOffset;
+        }
+
+        public int getBaseVertex() {
+            return baseVertex;
+        }
+
+        public @Nullable GLVertexArray getVertexArray() {
+            return vertexArray;
+        }
+
+        public @NotNull Matrix4fc getTransform() {
+            return transform;
+        }
+
+        public @NotNull Matrix4fc getNormal() {
+            return normal;
+        }
+
+        public @NotNull Vector4fc getParams() {
+            return params;
+        }
+    }
+
+    private int width;
+    private int height;
+    private float time;
+    private long inputTime;
+
+    private boolean camera;
+    private final Matrix4f view = new Matrix4f();
+    private final Matrix4f projection = new Matrix4f();
+    private final Vector3f sunDirection = new Vector3f();
+
+    private final List<Draw> draws = new ArrayList<>();
+    private int count;
+    private int culled;
+    private final RenderQueue queue = new RenderQueue();
+
+    private final Map<Material, Material.Snapshot> materials = new IdentityHashMap<>();
+
+    public void begin(final int width, final int height, final float time) {
+        this.width = width;
+        this.height = height;
+        this.time = time;
+        this.camera = false;
+        this.count = 0;
+        this.culled = 0;
+        this.queue.clear();
+        this.materials.clear();
+    }
+
+    public void setCamera(final @NotNull Matrix4fc view, final @NotNull Matrix4fc projection) {
+        this.camera = true;
+        this.view.set(view);
+        this.projection.set(projection);
+    }
+
+    public void setInputTime(final long inputTime) {
+        this.inputTime = inputTime;
+    }
+
+    public void setSunDirection(final float x, final float y, final float z) {
+        this.sunDirection.set(x, y, z);
+    }
+
+    public void add(final @NotNull Material material, final @NotNull Mesh mesh, final @NotNull Matrix4fc transform) {
+        add(material,
+            mesh,
+            transform,
+            transform.normal(new Matrix4f()),
+            new Vector4f(),
+            RenderQueue.key(material, mesh, transform, view));
+    }
+
+    public void add(final @NotNull DrawList list) {
+        for (int i = 0; i < list.size(); ++i) {
+            final var entry = list.get(i);
+            add(entry.getMaterial(),
+                entry.getMesh(),
+                entry.getTransform(),
+                entry.getNormal(),
+                entry.getParams(),
+                entry.getKey());
+        }
+        culled += list.getCulled();
+    }
+
+    private void add(
+            final @NotNull Material material,
+            final @NotNull Mesh mesh,
+            final @NotNull Matrix4fc transform,
+            final @NotNull Matrix4fc normal,
+            final @NotNull Vector4fc params,
+            final long key
+    ) {
+        if (count == draws.size())
+            draws.add(new Draw());
+
+        final var index = count++;
+        final var draw  = draws.get(index);
+        draw.material = material;
+        draw.uniforms = materials.computeIfAbsent(material, Material::snapshot);
+        draw.mesh = mesh;
+        draw.count = mesh.count();
+        draw.indexType = mesh.getIndexType();
+        draw.indexOffset = mesh.getIndexOffset();
+        draw.baseVertex = mesh.getBaseVertex();
+        draw.vertexArray = mesh.getVertexArray();
+        draw.transform.set(transform);
+        draw.normal.set(normal);
+        draw.params.set(params);
+
+        queue.add(key, index);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public float getTime() {
+        return time;
+    }
+
+    public long getInputTime() {
+        return inputTime;
+    }
+
+    public boolean hasCamera() {
+        return camera;
+    }
+
+    public @NotNull Matrix4fc getView() {
+        return view;
+    }
+
+    public @NotNull Matrix4fc getProjection() {
+        return projection;
+    }
+
+    public @NotNull Vector3fc getSunDirection() {
+        return sunDirection;
+    }
+
+    public int getDrawCount() {
+        return count;
+    }
+
+    public int getCulledCount() {
+        return culled;
+    }
+
+    public @NotNull Draw getDraw(final int index) {
+        return draws.get(index);
+    }
+
+    public @NotNull RenderQueue getQueue() {
+        return queue;
+    }
+}
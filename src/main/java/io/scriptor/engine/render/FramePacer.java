@@ -0,0 +1,146 @@
+package io.scriptor.engine.render;
+
+import io.scriptor.engine.IDestructible;
+import io.scriptor.engine.InputBuffer;
+import io.scriptor.engine.Window;
+import io.scriptor.engine.gl.GLFence;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.locks.LockSupport;
+
+public class FramePacer implements IDestructible {
+
+    public enum VSync {
+        OFF,
+        ON,
+        ADAPTIVE,
+    }
+
+    private static final long SPIN_NANOS = 1_000_000L;
+
+    private final @NotNull Window window;
+    private final @NotNull Deque<GLFence> fences = new ArrayDeque<>();
+
+    private volatile @NotNull VSync vsync = VSync.ON;
+    private volatile boolean vsyncDirty = true;
+    private volatile int maxFramesInFlight = 2;
+    private volatile long period = 0L;
+
+    private long deadline;
+    private volatile float waitTime;
+    private volatile float sleepTime;
+    private volatile float inputLatency;
+
+    public FramePacer(final @NotNull Window window) {
+        this.window = window;
+    }
+
+    public @NotNull VSync getVSync() {
+        return vsync;
+    }
+
+    public @NotNull FramePacer setVSync(final @NotNull VSync vsync) {
+        this.vsync = vsync;
+        this.vsyncDirty = true;
+        return this;
+    }
+
+    public int getMaxFramesInFlight() {
+        return maxFramesInFlight;
+    }
+
+    public @NotNull FramePacer setMaxFramesInFlight(final int maxFramesInFlight) {
+        if (maxFramesInFlight <= 0)
+            throw new IllegalStateException();
+        this.maxFramesInFlight = maxFramesInFlight;
+        return this;
+    }
+
+    public int getTargetFps() {
+        return period == 0L ? 0 : (int) Math.round(1e9 / period);
+    }
+
+    public @NotNull FramePacer setTargetFps(final int fps) {
+        if (fps < 0)
+            throw new IllegalStateException();
+        this.period = fps == 0 ? 0L : 1_000_000_000L / fps;
+        this.deadline = 0L;
+        return this;
+    }
+
+    public float getWaitTime() {
+        return waitTime;
+    }
+
+    public float getSleepTime() {
+        return sleepTime;
+    }
+
+    public float getInputLatency() {
+        return inputLatency;
+    }
+
+    public void limit() {
+        final var period = this.period;
+        if (period == 0L) {
+            sleepTime = 0.0f;
+            return;
+        }
+
+        final var now = System.nanoTime();
+        if (deadline == 0L)
+            deadline = now;
+
+        if (now < deadline)
+            sleepUntil(deadline);
+
+        final var end = System.nanoTime();
+        sleepTime = (end - now) * 1e-9f;
+
+        deadline += period;
+        if (deadline < end)
+            deadline = end + period;
+    }
+
+    public void sync() {
+        if (vsyncDirty) {
+            vsyncDirty = false;
+            window.setSwapInterval(switch (vsync) {
+                case OFF -> 0;
+                case ON -> 1;
+                case ADAPTIVE -> window.isExtensionSupported("GLX_EXT_swap_control_tear")
+                                 || window.isExtensionSupported("WGL_EXT_swap_control_tear") ? -1 : 1;
+            });
+        }
+
+        final var begin = System.nanoTime();
+        while (fences.size() >= maxFramesInFlight) {
+            final var fence = fences.poll();
+            fence.await();
+            fence.destroy();
+        }
+        waitTime = (System.nanoTime() - begin) * 1e-9f;
+    }
+
+    public void present(final @NotNull Frame frame) {
+        fences.add(new GLFence());
+
+        if (frame.getInputTime() != 0L)
+            inputLatency = (InputBuffer.now() - frame.getInputTime()) * 1e-9f;
+    }
+
+    private static void sleepUntil(final long deadline) {
+        for (var remaining = deadline - System.nanoTime(); remaining > SPIN_NANOS; remaining = deadline - System.nanoTime())
+            LockSupport.parkNanos(remaining - SPIN_NANOS);
+        while (System.nanoTime() < deadline)
+            Thread.onSpinWait();
+    }
+
+    @Override
+    public void destroy() {
+        fences.forEach(GLFence::destroy);
+        fences.clear();
+    }
+}
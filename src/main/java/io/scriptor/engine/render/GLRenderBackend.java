@@ -0,0 +1,166 @@
+package io.scriptor.engine.render;
+
+import io.scriptor.engine.data.Material;
+import io.scriptor.engine.gl.GLProgram;
+import io.scriptor.engine.gl.GLRingBuffer;
+import io.scriptor.engine.gl.GLState;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.GL13.GL_MULTISAMPLE;
+import static org.lwjgl.opengl.GL31.GL_UNIFORM_BUFFER;
+import static org.lwjgl.opengl.GL42.glDrawElementsInstancedBaseVertexBaseInstance;
+import static org.lwjgl.opengl.GL43.GL_SHADER_STORAGE_BUFFER;
+
+public class GLRenderBackend implements IRenderBackend {
+
+    public static final int FRAME_BINDING = 0;
+
+    public static final int OBJECT_BINDING = 1;
+
+    private static final int FRAME_BYTES = 2 * 16 * Float.BYTES + 4 * Float.BYTES;
+    private static final int OBJECT_BYTES = 2 * 16 * Float.BYTES + Material.PARAMS * Float.BYTES;
+
+    private static final int REGIONS = 3;
+
+    private @Nullable GLRingBuffer frameRing;
+    private @Nullable GLRingBuffer objectRing;
+
+    private final Map<String[], int[]> materialSlots = new IdentityHashMap<>();
+
+    private @Nullable GLProgram program;
+    private @Nullable Frame.Draw geometry;
+
+    @Override
+    public void begin(final @NotNull Frame frame) {
+        GLState.viewport(0, 0, frame.getWidth(), frame.getHeight());
+
+        GLState.enable(GL_DEPTH_TEST);
+        GLState.enable(GL_CULL_FACE);
+        GLState.enable(GL_MULTISAMPLE);
+
+        GLState.blendFunc(GL_SRC_ALPHA, GL_ONE_MINUS_SRC_ALPHA);
+        GLState.clearColor(0.0f, 0.0f, 0.0f, 1.0f);
+
+        glClear(GL_COLOR_BUFFER_BIT | GL_DEPTH_BUFFER_BIT);
+
+        if (frameRing == null)
+            frameRing = new GLRingBuffer(GL_UNIFORM_BUFFER, FRAME_BYTES, REGIONS);
+
+        final var frameData = frameRing.begin();
+        frame.getView().get(0, frameData);
+        frame.getProjection().get(16 * Float.BYTES, frameData);
+        frame.getSunDirection().get(32 * Float.BYTES, frameData);
+        frameData.putFloat(35 * Float.BYTES, frame.getTime());
+        frameRing.bindRange(FRAME_BINDING, FRAME_BYTES);
+
+        writeObjects(frame);
+    }
+
+    private void writeObjects(final @NotNull Frame frame) {
+        final var count = frame.getQueue().size();
+        if (count == 0)
+            return;
+
+        final var bytes = count * OBJECT_BYTES;
+        if (objectRing == null || objectRing.getRegionSize() < bytes) {
+            final var size = objectRing == null
+                             ? Math.max(bytes, OBJECT_BYTES * 64)
+                             : Math.max(bytes, objectRing.getRegionSize() * 2);
+            if (objectRing != null)
+                objectRing.destroy();
+            objectRing = new GLRingBuffer(GL_SHADER_STORAGE_BUFFER, size, REGIONS);
+        }
+
+        final var objectData = objectRing.begin();
+        final var queue      = frame.getQueue();
+        for (int i = 0; i < count; ++i) {
+            final var draw = frame.getDraw(queue.getValue(i));
+            draw.getTransform().get(i * OBJECT_BYTES, objectData);
+            draw.getNormal().get(i * OBJECT_BYTES + 16 * Float.BYTES, objectData);
+            draw.getParams().get(i * OBJECT_BYTES + 32 * Float.BYTES, objectData);
+        }
+        objectRing.bindRange(OBJECT_BINDING, bytes);
+    }
+
+    @Override
+    public void pass(final int pass) {
+        final var blended = pass == RenderQueue.PASS_BLENDED;
+        GLState.setEnabled(GL_BLEND, blended);
+        GLState.depthMask(!blended);
+    }
+
+    @Override
+    public void material(final @NotNull Material material, final @NotNull Material.Snapshot uniforms) {
+        program = null;
+        material.getProgram().ok(program -> {
+            program.bind();
+
+            final var slots = materialSlots.computeIfAbsent(uniforms.names(), names -> {
+                final var result = new int[names.length];
+                for (int i = 0; i < names.length; ++i)
+                    result[i] = program.getSlot(names[i]);
+                return result;
+            });
+            for (int i = 0; i < slots.length; ++i)
+                program.uniform(slots[i], material.getId(), uniforms.values()[i]);
+
+            this.program = program;
+        });
+    }
+
+    @Override
+    public void mesh(final @NotNull Frame.Draw draw) {
+        geometry = draw;
+        final var vertexArray = draw.getVertexArray();
+        if (vertexArray != null)
+            vertexArray.bind();
+    }
+
+    @Override
+    public void draw(final int first, final int instances, final int count) {
+        if (program == null || geometry == null || geometry.getVertexArray() == null)
+            return;
+
+        glDrawElementsInstancedBaseVertexBaseInstance(
+                GL_TRIANGLES,
+                count,
+                geometry.getIndexType(),
+                geometry.getIndexOffset(),
+                instances,
+                geometry.getBaseVertex(),
+                first);
+    }
+
+    @Override
+    public void end() {
+        if (geometry != null) {
+            GLState.bindVertexArray(0);
+            geometry = null;
+        }
+
+        if (program != null) {
+            program.unbind();
+            program = null;
+        }
+
+        GLState.depthMask(true);
+
+        if (frameRing != null)
+            frameRing.end();
+        if (objectRing != null)
+            objectRing.end();
+    }
+
+    @Override
+    public void destroy() {
+        if (frameRing != null)
+            frameRing.destroy();
+        if (objectRing != null)
+            objectRing.destroy();
+    }
+}
@@ -0,0 +1,20 @@
+package io.scriptor.engine.render;
+
+import io.scriptor.engine.IDestructible;
+import io.scriptor.engine.data.Material;
+import org.jetbrains.annotations.NotNull;
+
+public interface IRenderBackend extends IDestructible {
+
+    void begin(final @NotNull Frame frame);
+
+    void pass(final int pass);
+
+    void material(final @NotNull Material material, final @NotNull Material.Snapshot uniforms);
+
+    void mesh(final @NotNull Frame.Draw draw);
+
+    void draw(final int first, final int instances, final int count);
+
+    void end();
+}
@@ -0,0 +1,89 @@
+package io.scriptor.engine.render;
+
+import io.scriptor.engine.data.Material;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class RecordingRenderBackend implements IRenderBackend {
+
+    public enum Command {
+        BEGIN,
+        PASS,
+        MATERIAL,
+        MESH,
+        DRAW,
+        END,
+    }
+
+    public record Entry(@NotNull Command command, int argument) {
+    }
+
+    private final List<Entry> entries = new ArrayList<>();
+    private final int[] counts = new int[Command.values().length];
+    private int instances;
+
+    private void record(final @NotNull Command command, final int argument) {
+        entries.add(new Entry(command, argument));
+        ++counts[command.ordinal()];
+    }
+
+    @Override
+    public void begin(final @NotNull Frame frame) {
+        record(Command.BEGIN, frame.getDrawCount());
+    }
+
+    @Override
+    public void pass(final int pass) {
+        record(Command.PASS, pass);
+    }
+
+    @Override
+    public void material(final @NotNull Material material, final @NotNull Material.Snapshot uniforms) {
+        record(Command.MATERIAL, material.getId());
+    }
+
+    @Override
+    public void mesh(final @NotNull Frame.Draw draw) {
+        record(Command.MESH, draw.getMesh().getId());
+    }
+
+    @Override
+    public void draw(final int first, final int instances, final int count) {
+        record(Command.DRAW, instances);
+        this.instances += instances;
+    }
+
+    @Override
+    public void end() {
+        record(Command.END, 0);
+    }
+
+    @Override
+    public void destroy() {
+    }
+
+    public @NotNull List<Entry> getEntries() {
+        return entries;
+    }
+
+    public int getCount(final @NotNull Command command) {
+        return counts[command.ordinal()];
+    }
+
+    public int getInstanceCount() {
+        return instances;
+    }
+
+    public int getStateChanges() {
+        return getCount(Command.PASS) + getCount(Command.MATERIAL) + getCount(Command.MESH);
+    }
+
+    public void clear() {
+        entries.clear();
+        Arrays.fill(counts, 0);
+        instances = 0;
+    }
+}
@@ -0,0 +1,123 @@
+package io.scriptor.engine.render;
+
+import io.scriptor.engine.data.Material;
+import io.scriptor.engine.data.Mesh;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Matrix4fc;
+
+import java.util.Arrays;
+
+public class RenderQueue {
+
+    public static final int PASS_OPAQUE = 0;
+    public static final int PASS_BLENDED = 1;
+
+    private static final int PASS_SHIFT = 62;
+    private static final long MATERIAL_MASK = 0xFFFL;
+    private static final long MESH_MASK = 0xFFFFL;
+    private static final long DEPTH_MASK = 0xFFFFFFL;
+
+    public static long key(final int pass, final int material, final int mesh, final float depth) {
+        final var bits = depth > 0.0f ? (Float.floatToIntBits(depth) >>> 7) & DEPTH_MASK : 0L;
+        final var key  = (long) pass << PASS_SHIFT;
+
+        if (pass == PASS_BLENDED)
+            return key
+                   | (~bits & DEPTH_MASK) << 28
+                   | (material & MATERIAL_MASK) << 16
+                   | (mesh & MESH_MASK);
+
+        return key
+               | (material & MATERIAL_MASK) << 40
+               | (mesh & MESH_MASK) << 24
+               | bits;
+    }
+
+    public static long key(
+            final @NotNull Material material,
+            final @NotNull Mesh mesh,
+            final @NotNull Matrix4fc transform,
+            final @NotNull Matrix4fc view
+    ) {
+        final var depth = -(view.m02() * transform.m30()
+                            + view.m12() * transform.m31()
+                            + view.m22() * transform.m32()
+                            + view.m32());
+        final var pass = material.isBlended() ? PASS_BLENDED : PASS_OPAQUE;
+        return key(pass, material.getId(), mesh.getId(), depth);
+    }
+
+    public static int getPass(final long key) {
+        return (int) (key >>> PASS_SHIFT);
+    }
+
+    private long[] keys = new long[64];
+    private int[] values = new int[64];
+    private long[] keyScratch = new long[64];
+    private int[] valueScratch = new int[64];
+    private final int[] histogram = new int[256];
+    private int count;
+
+    public void clear() {
+        count = 0;
+    }
+
+    public void add(final long key, final int value) {
+        if (count == keys.length) {
+            keys = Arrays.copyOf(keys, count * 2);
+            values = Arrays.copyOf(values, count * 2);
+        }
+        keys[count] = key;
+        values[count] = value;
+        ++count;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public long getKey(final int index) {
+        return keys[index];
+    }
+
+    public int getValue(final int index) {
+        return values[index];
+    }
+
+    public void sort() {
+        if (keyScratch.length < keys.length) {
+            keyScratch = new long[keys.length];
+            valueScratch = new int[keys.length];
+        }
+
+        for (int shift = 0; shift < Long.SIZE; shift += 8) {
+            Arrays.fill(histogram, 0);
+            for (int i = 0; i < count; ++i)
+                ++histogram[(int) (keys[i] >>> shift) & 0xFF];
+
+            if (histogram[(int) (keys[0] >>> shift) & 0xFF] == count)
+                continue;
+
+            for (int i = 0, sum = 0; i < histogram.length; ++i) {
+                final var n = histogram[i];
+                histogram[i] = sum;
+                sum += n;
+            }
+
+            for (int i = 0; i < count; ++i) {
+                final var bucket = (int) (keys[i] >>> shift) & 0xFF;
+                final var target = histogram[bucket]++;
+                keyScratch[target] = keys[i];
+                valueScratch[target] = values[i];
+            }
+
+            final var k = keys;
+            keys = keyScratch;
+            keyScratch = k;
+
+            final var v = values;
+            values = valueScratch;
+            valueScratch = v;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package io.scriptor.engine.render;
+
+import io.scriptor.engine.IDestructible;
+import io.scriptor.engine.Window;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GLCapabilities;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class RenderThread implements IDestructible {
+
+    private final @NotNull Window window;
+    private final @NotNull GLCapabilities capabilities;
+    private final @NotNull Renderer renderer;
+    private final @NotNull FramePacer pacer;
+
+    private final @NotNull BlockingQueue<Frame> free = new ArrayBlockingQueue<>(2);
+    private final @NotNull BlockingQueue<Frame> ready = new ArrayBlockingQueue<>(2);
+
+    private final @NotNull ReentrantLock context = new ReentrantLock(true);
+    private final @NotNull AtomicInteger requests = new AtomicInteger();
+
+    private final @NotNull Thread thread;
+    private volatile boolean running = true;
+    private volatile @Nullable Throwable failure;
+
+    public RenderThread(
+            final @NotNull Window window,
+            final @NotNull GLCapabilities capabilities,
+            final @NotNull Renderer renderer,
+            final @NotNull FramePacer pacer
+    ) {
+        this.window = window;
+        this.capabilities = capabilities;
+        this.renderer = renderer;
+        this.pacer = pacer;
+
+        free.add(new Frame());
+        free.add(new Frame());
+
+        window.release();
+        GL.setCapabilities(null);
+
+        thread = new Thread(this::run, "edge-render");
+        thread.start();
+    }
+
+    public @NotNull Frame begin() {
+        try {
+            while (true) {
+                final var frame = free.poll(10, TimeUnit.MILLISECONDS);
+                if (frame != null)
+                    return frame;
+                if (!thread.isAlive())
+                    throw new IllegalStateException(failure);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public void submit(final @NotNull Frame frame) {
+        ready.add(frame);
+    }
+
+    public void acquire() {
+        requests.incrementAndGet();
+        context.lock();
+        window.makeCurrent();
+        GL.setCapabilities(capabilities);
+    }
+
+    public void release() {
+        GL.setCapabilities(null);
+        window.release();
+        requests.decrementAndGet();
+        context.unlock();
+    }
+
+    private void makeCurrent() {
+        window.makeCurrent();
+        GL.setCapabilities(capabilities);
+    }
+
+    private void run() {
+        context.lock();
+        try {
+            makeCurrent();
+
+            while (running) {
+                // frames already submitted still reference the current mesh storage, so they
+                // are rendered before the main thread may upload or free any of it
+                if (requests.get() > 0 && ready.isEmpty()) {
+                    window.release();
+                    context.unlock();
+                    context.lock();
+                    makeCurrent();
+                }
+
+                final var frame = ready.poll(1, TimeUnit.MILLISECONDS);
+                if (frame == null)
+                    continue;
+
+                pacer.sync();
+                renderer.render(frame);
+                window.swap();
+                pacer.present(frame);
+
+                free.add(frame);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final Throwable e) {
+            failure = e;
+            e.printStackTrace(System.err);
+        } finally {
+            GL.setCapabilities(null);
+            window.release();
+            context.unlock();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        try {
+            thread.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        window.makeCurrent();
+        GL.setCapabilities(capabilities);
+    }
+}
@@ -0,0 +1,76 @@
+package io.scriptor.engine.render;
+
+import io.scriptor.engine.IDestructible;
+import io.scriptor.engine.data.Material;
+import io.scriptor.engine.data.Mesh;
+import org.jetbrains.annotations.NotNull;
+
+public class Renderer implements IDestructible {
+
+    private final @NotNull IRenderBackend backend;
+
+    public Renderer(final @NotNull IRenderBackend backend) {
+        this.backend = backend;
+    }
+
+    public @NotNull IRenderBackend getBackend() {
+        return backend;
+    }
+
+    public void render(final @NotNull Frame frame) {
+        final var queue = frame.getQueue();
+        if (frame.hasCamera())
+            queue.sort();
+
+        backend.begin(frame);
+
+        if (!frame.hasCamera()) {
+            backend.end();
+            return;
+        }
+
+        int      pass     = -1;
+        Material material = null;
+        Mesh     mesh     = null;
+
+        for (int i = 0; i < queue.size(); ) {
+            final var draw     = frame.getDraw(queue.getValue(i));
+            final var drawPass = RenderQueue.getPass(queue.getKey(i));
+
+            int end = i + 1;
+            while (end < queue.size()) {
+                final var next = frame.getDraw(queue.getValue(end));
+                if (next.getMaterial() != draw.getMaterial()
+                    || next.getMesh() != draw.getMesh()
+                    || RenderQueue.getPass(queue.getKey(end)) != drawPass)
+                    break;
+                ++end;
+            }
+
+            if (drawPass != pass) {
+                pass = drawPass;
+                backend.pass(pass);
+            }
+
+            if (draw.getMaterial() != material) {
+                material = draw.getMaterial();
+                backend.material(material, draw.getUniforms());
+            }
+
+            if (draw.getMesh() != mesh) {
+                mesh = draw.getMesh();
+                backend.mesh(draw);
+            }
+
+            backend.draw(i, end - i, draw.getCount());
+            i = end;
+        }
+
+        backend.end();
+    }
+
+    @Override
+    public void destroy() {
+        backend.destroy();
+    }
+}
@@ -0,0 +1,6 @@
+layout(std140, binding = 0) uniform FRAME {
+    mat4 VIEW;
+    mat4 PROJECTION;
+    vec3 SUN_DIRECTION;
+    float TIME;
+};
@@ -0,0 +1,13 @@
+struct OBJECT_DATA {
+    mat4 MODEL;
+    mat4 NORMAL;
+    vec4 PARAMETERS;
+};
+
+layout(std430, binding = 1) readonly buffer OBJECTS {
+    OBJECT_DATA OBJECT[];
+};
+
+#define TRANSFORM (OBJECT[gl_BaseInstance + gl_InstanceID].MODEL)
+#define NORMAL_MATRIX (mat3(OBJECT[gl_BaseInstance + gl_InstanceID].NORMAL))
+#define PARAMS (OBJECT[gl_BaseInstance + gl_InstanceID].PARAMETERS)
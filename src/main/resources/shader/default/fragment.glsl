@@ -1,5 +1,7 @@
 #version 460 core
 
+#include "shader/common/frame.glsl"
+
 layout(location = 0) out vec4 COLOR;
 
 void main() {
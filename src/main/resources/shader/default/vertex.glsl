@@ -1,10 +1,9 @@
 #version 460 core
 
-layout(location = 0) in vec4 POSITION;
+#include "shader/common/frame.glsl"
+#include "shader/common/object.glsl"
 
-uniform mat4 VIEW;
-uniform mat4 PROJECTION;
-uniform mat4 TRANSFORM;
+layout(location = 0) in vec4 POSITION;
 
 void main() {
     gl_Position = PROJECTION * VIEW * TRANSFORM * POSITION;
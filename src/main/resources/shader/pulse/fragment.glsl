@@ -0,0 +1,30 @@
+#version 460 core
+
+#include "shader/common/frame.glsl"
+
+layout(location = 0) out vec4 COLOR;
+
+in vec3 vPosition;
+in vec3 vNormal;
+flat in vec2 vPulse;
+
+// 0.0 runs along x, 1.0 along z
+#ifndef PULSE_AXIS
+#define PULSE_AXIS (vPulse.x)
+#endif
+
+// 1.0 runs the pulse backwards
+#ifndef PULSE_FLIP
+#define PULSE_FLIP (vPulse.y)
+#endif
+
+void main() {
+    int time = int(TIME * 2.0) % 5;
+    int pos = int(mix(vPosition.x, vPosition.z, PULSE_AXIS) - 0.5) % 5;
+    if (PULSE_FLIP > 0.5)
+        pos = 4 - pos;
+    vec3 color = vec3((pos == time ? 0.7 : 0.8));
+
+    float t = max(0.1, dot(vNormal, normalize(SUN_DIRECTION)));
+    COLOR = vec4(color * t, 1.0);
+}
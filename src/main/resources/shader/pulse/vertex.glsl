@@ -1,17 +1,19 @@
 #version 460 core
 
+#include "shader/common/frame.glsl"
+#include "shader/common/object.glsl"
+
 layout(location = 0) in vec4 POSITION;
 layout(location = 2) in vec3 NORMAL;
+layout(location = 3) in vec4 COLOR;
 
 out vec3 vPosition;
 out vec3 vNormal;
-
-uniform mat4 VIEW;
-uniform mat4 PROJECTION;
-uniform mat4 TRANSFORM;
+flat out vec2 vPulse;
 
 void main() {
     gl_Position = PROJECTION * VIEW * TRANSFORM * POSITION;
     vPosition = POSITION.xyz;
-    vNormal = normalize(mat3(transpose(inverse(TRANSFORM))) * NORMAL);
+    vNormal = normalize(NORMAL_MATRIX * NORMAL);
+    vPulse = COLOR.xy;
 }
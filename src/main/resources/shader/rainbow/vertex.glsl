@@ -1,16 +1,15 @@
 #version 460 core
 
+#include "shader/common/frame.glsl"
+#include "shader/common/object.glsl"
+
 layout(location = 0) in vec4 POSITION;
 layout(location = 2) in vec3 NORMAL;
 
 out vec3 vNormal;
 out vec4 vColor;
 
-uniform mat4 VIEW;
-uniform mat4 PROJECTION;
-uniform mat4 TRANSFORM;
-uniform float TIME;
-uniform float SPEED;
+#define SPEED (PARAMS.x)
 
 const vec3 PALETTE[] = vec3[](
 vec3(0.0, 0.0, 1.0), // red
@@ -29,7 +28,7 @@ vec3(0.5, 0.0, 1.0)
 
 void main() {
     gl_Position = PROJECTION * VIEW * TRANSFORM * POSITION;
-    vNormal = normalize(mat3(transpose(inverse(TRANSFORM))) * NORMAL);
+    vNormal = normalize(NORMAL_MATRIX * NORMAL);
 
     float findex = TIME * SPEED;
     int index = int(findex);
@@ -0,0 +1,63 @@
+package io.scriptor.engine;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class InputRecordingTest {
+
+    private static final int TICK_RATE = 120;
+    private static final int AXES = 3;
+    private static final int[] TICKS = { 1, 0, 3, 40000, 0, 2 };
+
+    private static final float[] SPECIAL = {
+            -0.0f,
+            Float.MIN_VALUE,
+            Float.MIN_NORMAL,
+            Float.MAX_VALUE,
+            -1.0f,
+            0.1f,
+            1.0f / 3.0f,
+    };
+
+    private static float value(final int frame, final int tick, final int axis) {
+        final var index = (frame * 31 + tick) * AXES + axis;
+        if (index % 5 == 0)
+            return SPECIAL[(index / 5) % SPECIAL.length];
+        return (float) Math.sin(index * 0.7331) * (axis + 1);
+    }
+
+    @Test
+    void roundTripsFramesBitForBit(final @TempDir @NotNull Path directory) {
+        final var path = directory.resolve("input.rec");
+
+        final var recorder = new InputRecorder(path, TICK_RATE);
+        for (int frame = 0; frame < TICKS.length; ++frame) {
+            recorder.frame(TICKS[frame], AXES);
+            for (int tick = 0; tick < TICKS[frame]; ++tick)
+                for (int axis = 0; axis < AXES; ++axis)
+                    recorder.value(value(frame, tick, axis));
+        }
+        recorder.destroy();
+
+        final var replay = new InputReplay(path);
+        assertEquals(TICK_RATE, replay.getTickRate());
+
+        for (int frame = 0; frame < TICKS.length; ++frame) {
+            assertEquals(TICKS[frame], replay.frame(), "ticks of frame %d".formatted(frame));
+            assertEquals(AXES, replay.getAxisCount());
+
+            for (int tick = 0; tick < TICKS[frame]; ++tick)
+                for (int axis = 0; axis < AXES; ++axis)
+                    assertEquals(Float.floatToRawIntBits(value(frame, tick, axis)),
+                                 Float.floatToRawIntBits(replay.value()));
+        }
+
+        assertEquals(-1, replay.frame());
+        replay.destroy();
+    }
+}
@@ -0,0 +1,153 @@
+package io.scriptor.engine.render;
+
+import io.scriptor.engine.data.Material;
+import io.scriptor.engine.data.Mesh;
+import io.scriptor.engine.gl.GLProgram;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Matrix4f;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.scriptor.engine.render.RecordingRenderBackend.Command.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RendererTest {
+
+    private static final AtomicInteger ids = new AtomicInteger();
+
+    private static @NotNull Material material(final boolean blended) {
+        final var id = "renderer-test-" + ids.getAndIncrement();
+        return Material.create(id, GLProgram.get(id)).get().setBlended(blended);
+    }
+
+    private static @NotNull Mesh mesh() {
+        return Mesh.create("renderer-test-" + ids.getAndIncrement()).get();
+    }
+
+    private static @NotNull Matrix4f at(final float z) {
+        return new Matrix4f().translation(0.0f, 0.0f, z);
+    }
+
+    private final RecordingRenderBackend backend = new RecordingRenderBackend();
+    private final Renderer renderer = new Renderer(backend);
+    private final Frame frame = new Frame();
+
+    @BeforeEach
+    void begin() {
+        frame.begin(800, 600, 0.0f);
+        frame.setCamera(new Matrix4f(), new Matrix4f());
+    }
+
+    private @NotNull List<Integer> arguments(final @NotNull RecordingRenderBackend.Command command) {
+        return backend
+                .getEntries()
+                .stream()
+                .filter(entry -> entry.command() == command)
+                .map(RecordingRenderBackend.Entry::argument)
+                .toList();
+    }
+
+    @Test
+    void sortsQueueByKey() {
+        final var queue = new RenderQueue();
+        final long[] keys = {
+                RenderQueue.key(RenderQueue.PASS_BLENDED, 1, 1, 2.0f),
+                RenderQueue.key(RenderQueue.PASS_OPAQUE, 3, 0, 1.0f),
+                RenderQueue.key(RenderQueue.PASS_OPAQUE, 1, 7, 4.0f),
+                RenderQueue.key(RenderQueue.PASS_OPAQUE, 1, 2, 9.0f),
+                RenderQueue.key(RenderQueue.PASS_OPAQUE, 1, 2, 3.0f),
+                RenderQueue.key(RenderQueue.PASS_BLENDED, 1, 1, 8.0f),
+        };
+        for (int i = 0; i < keys.length; ++i)
+            queue.add(keys[i], i);
+
+        queue.sort();
+
+        assertEquals(keys.length, queue.size());
+        for (int i = 1; i < queue.size(); ++i)
+            assertTrue(queue.getKey(i - 1) <= queue.getKey(i));
+        for (int i = 0; i < queue.size(); ++i)
+            assertEquals(keys[queue.getValue(i)], queue.getKey(i));
+
+        assertEquals(4, queue.getValue(0));
+        assertEquals(3, queue.getValue(1));
+        assertEquals(2, queue.getValue(2));
+        assertEquals(1, queue.getValue(3));
+        assertEquals(5, queue.getValue(4));
+        assertEquals(0, queue.getValue(5));
+    }
+
+    @Test
+    void groupsDrawsByMaterialAndMesh() {
+        final var second = material(false);
+        final var first  = material(false);
+        final var cube   = mesh();
+        final var quad   = mesh();
+
+        frame.add(second, quad, at(-1.0f));
+        frame.add(first, cube, at(-2.0f));
+        frame.add(second, cube, at(-3.0f));
+        frame.add(first, quad, at(-4.0f));
+        frame.add(first, cube, at(-5.0f));
+
+        renderer.render(frame);
+
+        final var lower  = Math.min(first.getId(), second.getId());
+        final var higher = Math.max(first.getId(), second.getId());
+        assertEquals(List.of(lower, higher), arguments(MATERIAL));
+        assertEquals(List.of(RenderQueue.PASS_OPAQUE), arguments(PASS));
+        assertEquals(4, backend.getCount(MESH));
+        assertEquals(5, backend.getInstanceCount());
+    }
+
+    @Test
+    void suppressesRedundantStateChanges() {
+        final var material = material(false);
+        final var mesh     = mesh();
+
+        for (int i = 0; i < 8; ++i)
+            frame.add(material, mesh, at(-1.0f - i));
+
+        renderer.render(frame);
+
+        assertEquals(List.of(BEGIN, PASS, MATERIAL, MESH, DRAW, END),
+                     backend.getEntries().stream().map(RecordingRenderBackend.Entry::command).toList());
+        assertEquals(List.of(8), arguments(DRAW));
+        assertEquals(3, backend.getStateChanges());
+    }
+
+    @Test
+    void drawsBlendedBackToFrontAfterOpaque() {
+        final var opaque  = material(false);
+        final var blended = material(true);
+        final var near    = mesh();
+        final var middle  = mesh();
+        final var far     = mesh();
+        final var solid   = mesh();
+
+        frame.add(blended, middle, at(-5.0f));
+        frame.add(blended, near, at(-1.0f));
+        frame.add(opaque, solid, at(-3.0f));
+        frame.add(blended, far, at(-9.0f));
+
+        renderer.render(frame);
+
+        assertEquals(List.of(RenderQueue.PASS_OPAQUE, RenderQueue.PASS_BLENDED), arguments(PASS));
+        assertEquals(List.of(solid.getId(), far.getId(), middle.getId(), near.getId()), arguments(MESH));
+        assertEquals(List.of(opaque.getId(), blended.getId()), arguments(MATERIAL));
+    }
+
+    @Test
+    void skipsDrawsWithoutCamera() {
+        frame.begin(800, 600, 0.0f);
+
+        renderer.render(frame);
+
+        assertEquals(List.of(BEGIN, END),
+                     backend.getEntries().stream().map(RecordingRenderBackend.Entry::command).toList());
+    }
+}